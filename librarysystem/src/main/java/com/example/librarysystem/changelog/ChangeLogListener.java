@@ -0,0 +1,10 @@
+package com.example.librarysystem.changelog;
+
+import com.example.librarysystem.domain.ChangeLogEntry;
+
+// 다른 노드에서 커밋된 변경을 받아 이 노드의 로컬 상태를 무효화/갱신
+// 폴러 스레드에서 쓰기 트랜잭션 안으로 호출되므로 DB 재조회는 항상 primary로 감
+public interface ChangeLogListener {
+
+    void onRemoteChange(ChangeLogEntry entry);
+}
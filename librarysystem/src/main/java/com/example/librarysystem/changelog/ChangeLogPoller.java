@@ -0,0 +1,213 @@
+package com.example.librarysystem.changelog;
+
+import com.example.librarysystem.config.ChangeLogProperties;
+import com.example.librarysystem.domain.Book;
+import com.example.librarysystem.domain.ChangeLogEntry;
+import com.example.librarysystem.domain.Member;
+import com.example.librarysystem.domain.enums.ChangeTarget;
+import com.example.librarysystem.dto.ChangeLogStats;
+import com.example.librarysystem.repository.ChangeLogRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+// change_log를 주기적으로 tail 해서 다른 노드의 변경을 로컬 캐시에 반영
+//
+// IDENTITY id는 트랜잭션 커밋 순서와 다르게 보일 수 있으므로, 건너뛴 id는 gap으로 기억해
+// gap-timeout-ms 동안 다시 확인 (롤백된 id는 영원히 나타나지 않으므로 시간 제한)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "change-log.enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeLogPoller {
+
+    private static final int MAX_TRACKED_GAP = 1000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final ChangeLogWriter changeLogWriter;
+    private final ChangeLogProperties properties;
+    private final ObjectProvider<ChangeLogListener> listeners;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+
+    // id -> 처음 gap으로 본 시각 (폴러 스레드만 접근)
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+    private volatile long lastSeenId;
+
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong skippedOwn = new AtomicLong();
+    private volatile LocalDateTime lastPollAt;
+    private volatile long lastPollMillis;
+    private volatile long maxPollMillis;
+    private volatile long lastLagMillis;
+    private volatile long maxLagMillis;
+    private volatile int pendingGaps;
+
+    public ChangeLogPoller(ChangeLogRepository changeLogRepository,
+                           ChangeLogWriter changeLogWriter,
+                           ChangeLogProperties properties,
+                           ObjectProvider<ChangeLogListener> listeners,
+                           EntityManagerFactory entityManagerFactory,
+                           PlatformTransactionManager transactionManager) {
+        this.changeLogRepository = changeLogRepository;
+        this.changeLogWriter = changeLogWriter;
+        this.properties = properties;
+        this.listeners = listeners;
+        this.entityManagerFactory = entityManagerFactory;
+        // 읽기 전용이 아닌 트랜잭션으로 열어 replica 지연과 무관하게 primary를 읽음
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 기동 시점의 로컬 캐시는 비어 있으므로 현재 끝에서부터 tail
+    @PostConstruct
+    public void init() {
+        Long maxId = transactionTemplate.execute(status -> changeLogRepository.findMaxId());
+        lastSeenId = maxId == null ? 0 : maxId;
+    }
+
+    @Scheduled(fixedDelayString = "${change-log.poll-interval-ms:500}")
+    public void poll() {
+        long startedAt = System.nanoTime();
+        long from = lastSeenId;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<ChangeLogEntry> entries = new ArrayList<>(fetchLateEntries());
+                List<ChangeLogEntry> batch;
+                do {
+                    batch = changeLogRepository.findByIdGreaterThanOrderByIdAsc(
+                            lastSeenId, PageRequest.of(0, properties.getPollBatchSize()));
+                    for (ChangeLogEntry entry : batch) {
+                        trackGaps(entry.getId());
+                        lastSeenId = entry.getId();
+                    }
+                    entries.addAll(batch);
+                } while (batch.size() == properties.getPollBatchSize());
+
+                apply(entries);
+            });
+        } catch (RuntimeException e) {
+            // 다음 폴링에서 같은 구간을 다시 읽음 (무효화는 여러 번 해도 결과가 같음)
+            lastSeenId = from;
+            log.warn("Change log poll failed after id {}", from, e);
+        }
+
+        long elapsed = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        lastPollAt = LocalDateTime.now();
+        lastPollMillis = elapsed;
+        maxPollMillis = Math.max(maxPollMillis, elapsed);
+    }
+
+    // 이전 폴링에서 비어 있던 id 중 늦게 커밋된 기록
+    private List<ChangeLogEntry> fetchLateEntries() {
+        long now = System.currentTimeMillis();
+        gaps.values().removeIf(firstSeen -> now - firstSeen > properties.getGapTimeoutMs());
+        if (gaps.isEmpty()) {
+            pendingGaps = 0;
+            return List.of();
+        }
+        List<ChangeLogEntry> late = changeLogRepository.findByIdIn(gaps.keySet());
+        late.forEach(entry -> gaps.remove(entry.getId()));
+        pendingGaps = gaps.size();
+        return late;
+    }
+
+    private void trackGaps(long id) {
+        long missing = id - lastSeenId - 1;
+        if (missing <= 0 || missing > MAX_TRACKED_GAP) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (long gapId = lastSeenId + 1; gapId < id; gapId++) {
+            gaps.put(gapId, now);
+        }
+        pendingGaps = gaps.size();
+    }
+
+    private void apply(List<ChangeLogEntry> entries) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        boolean evictQueries = false;
+        LocalDateTime now = LocalDateTime.now();
+
+        for (ChangeLogEntry entry : entries) {
+            if (changeLogWriter.getNodeId().equals(entry.getOriginNode())) {
+                skippedOwn.incrementAndGet();
+                continue;
+            }
+
+            if (entry.getTarget() == ChangeTarget.BOOK) {
+                evictEntity(cache, Book.class, entry.getTargetId());
+                evictQueries = true;
+            } else if (entry.getTarget() == ChangeTarget.MEMBER) {
+                evictEntity(cache, Member.class, entry.getTargetId());
+                cache.evictNaturalIdData(Member.class);
+                evictQueries = true;
+            }
+
+            listeners.orderedStream().forEach(listener -> {
+                try {
+                    listener.onRemoteChange(entry);
+                } catch (RuntimeException e) {
+                    log.warn("Change log listener {} failed for entry {}", listener.getClass().getSimpleName(), entry.getId(), e);
+                }
+            });
+
+            long lag = Math.max(0, Duration.between(entry.getCreatedAt(), now).toMillis());
+            lastLagMillis = lag;
+            maxLagMillis = Math.max(maxLagMillis, lag);
+            applied.incrementAndGet();
+        }
+
+        // 쿼리 캐시의 테이블 타임스탬프는 노드 로컬이므로 원격 변경 시 직접 비움
+        if (evictQueries) {
+            cache.evictDefaultQueryRegion();
+        }
+    }
+
+    // targetId가 없는 기록은 일괄 변경이므로 region 전체를 비움
+    private void evictEntity(Cache cache, Class<?> entityClass, Long id) {
+        if (id == null) {
+            cache.evictEntityData(entityClass);
+        } else {
+            cache.evictEntityData(entityClass, id);
+        }
+    }
+
+    // 모든 노드가 다 읽었을 만큼 지난 기록 삭제
+    @Scheduled(fixedDelayString = "${change-log.purge-interval-ms:600000}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(properties.getRetentionMinutes());
+        Integer deleted = transactionTemplate.execute(status -> changeLogRepository.deleteOlderThan(cutoff));
+        if (deleted != null && deleted > 0) {
+            log.debug("Purged {} change log entries", deleted);
+        }
+    }
+
+    public ChangeLogStats getStats() {
+        return ChangeLogStats.builder()
+                .nodeId(changeLogWriter.getNodeId())
+                .lastSeenId(lastSeenId)
+                .applied(applied.get())
+                .skippedOwn(skippedOwn.get())
+                .pendingGaps(pendingGaps)
+                .lastPollAt(lastPollAt)
+                .lastPollMillis(lastPollMillis)
+                .maxPollMillis(maxPollMillis)
+                .lastLagMillis(lastLagMillis)
+                .maxLagMillis(maxLagMillis)
+                .stalenessBoundMillis(properties.getPollIntervalMs() + maxPollMillis)
+                .build();
+    }
+}
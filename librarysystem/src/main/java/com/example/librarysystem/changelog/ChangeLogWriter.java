@@ -0,0 +1,64 @@
+package com.example.librarysystem.changelog;
+
+import com.example.librarysystem.config.ChangeLogProperties;
+import com.example.librarysystem.domain.ChangeLogEntry;
+import com.example.librarysystem.domain.enums.ChangeTarget;
+import com.example.librarysystem.repository.ChangeLogRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+// 쓰기 서비스가 변경한 캐시 대상을 change_log에 남김
+@Slf4j
+@Component
+public class ChangeLogWriter {
+
+    // 이보다 많으면 id 별 기록 대신 대상 전체 무효화 기록 하나를 남김
+    private static final int MAX_PER_ID_RECORDS = 100;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final ChangeLogProperties properties;
+
+    @Getter
+    private final String nodeId;
+
+    public ChangeLogWriter(ChangeLogRepository changeLogRepository, ChangeLogProperties properties) {
+        this.changeLogRepository = changeLogRepository;
+        this.properties = properties;
+        this.nodeId = StringUtils.hasText(properties.getNodeId())
+                ? properties.getNodeId()
+                : UUID.randomUUID().toString().substring(0, 8);
+        log.info("Change log node id: {}", nodeId);
+    }
+
+    // 호출한 트랜잭션에 참여해 본 변경과 함께 커밋/롤백
+    @Transactional
+    public void record(ChangeTarget target, Long targetId, String targetKey) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        changeLogRepository.save(ChangeLogEntry.builder()
+                .target(target)
+                .targetId(targetId)
+                .targetKey(targetKey)
+                .originNode(nodeId)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    // 일괄 변경 기록 (targetId가 null인 기록은 해당 대상 전체 무효화)
+    @Transactional
+    public void recordAll(ChangeTarget target, Collection<Long> targetIds) {
+        if (targetIds.size() > MAX_PER_ID_RECORDS) {
+            record(target, null, null);
+            return;
+        }
+        targetIds.forEach(id -> record(target, id, null));
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.librarysystem.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+// JSON 외에 CBOR(application/cbor), Smile(application/x-jackson-smile)로도 응답 (Accept 헤더로 선택, DTO는 그대로)
+//
+// Boot가 spring.jackson.* 설정을 적용한 빌더(prototype)로 만들어 날짜 형식, 모듈 등이 JSON 응답과 같음
+// 기본 변환기 목록의 같은 타입 자리를 대체하므로 Accept가 없거나 */* 이면 여전히 JSON
+@Configuration
+public class BinaryFormatConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
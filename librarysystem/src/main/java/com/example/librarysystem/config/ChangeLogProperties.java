@@ -0,0 +1,20 @@
+package com.example.librarysystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("change-log")
+public class ChangeLogProperties {
+    private boolean enabled = true;
+    private String nodeId = "";                 // 비어 있으면 기동 시 임의 생성
+    private long pollIntervalMs = 500;
+    private int pollBatchSize = 500;
+    private long gapTimeoutMs = 5000;           // 커밋이 늦은 id 구간을 다시 확인하는 시간
+    private long retentionMinutes = 60;
+    private long purgeIntervalMs = 600000;
+}
@@ -0,0 +1,27 @@
+package com.example.librarysystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("datasource.routing")
+public class DataSourceRoutingProperties {
+    private boolean enabled = false;
+    private int primaryPoolSize = 10;
+    private long maxLagMs = 2000;              // 이 이상 지연되면 primary로 우회
+    private long heartbeatIntervalMs = 1000;
+    private Replica replica = new Replica();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;                    // 비어 있으면 spring.datasource.url 사용
+        private String username;
+        private String password;
+        private int poolSize = 20;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.librarysystem.config;
+
+import com.example.librarysystem.journal.FsyncPolicy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("journal")
+public class JournalProperties {
+    private boolean enabled = true;
+    private String directory = "./data/journal";
+    private int segmentSize = 64 * 1024 * 1024;
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.INTERVAL;
+    private long fsyncIntervalMs = 1000;
+}
@@ -0,0 +1,91 @@
+package com.example.librarysystem.config;
+
+import com.example.librarysystem.dto.ResponseTokenError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// 경로별 토큰 버킷으로 클라이언트 요청 수를 제한
+// SecurityConfig에서 JWT 필터 앞에 두어 토큰 검증이나 DB 조회 전에 거부
+// 서블릿 필터로 자동 등록되지 않도록 빈으로 만들지 않음
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final List<Rule> rules;
+
+    private record Rule(RequestMatcher matcher, TokenBucketRateLimiter limiter,
+                        Function<HttpServletRequest, String> keyResolver) {
+    }
+
+    private RateLimitFilter(List<Rule> rules) {
+        this.rules = List.copyOf(rules);
+    }
+
+    public static Builder builder(int maxKeysPerRule) {
+        return new Builder(maxKeysPerRule);
+    }
+
+    // 프록시 뒤에서는 server.forward-headers-strategy 설정으로 실제 클라이언트 주소가 들어옴
+    public static String clientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        for (Rule rule : rules) {
+            if (!rule.matcher().matches(request)) {
+                continue;
+            }
+            TokenBucketRateLimiter.Decision decision = rule.limiter().tryAcquire(rule.keyResolver().apply(request));
+            if (!decision.allowed()) {
+                setTooManyRequestsResponse(response, decision);
+                return;
+            }
+            response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
+            break;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void setTooManyRequestsResponse(HttpServletResponse res, TokenBucketRateLimiter.Decision decision) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(decision.retryAfterNanos() + TimeUnit.SECONDS.toNanos(1) - 1));
+        res.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        res.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        res.setHeader("X-RateLimit-Remaining", "0");
+        res.setContentType("application/json; charset=UTF-8");
+        res.getWriter().write(MAPPER.writeValueAsString(new ResponseTokenError("Too many requests")));
+    }
+
+    public static class Builder {
+        private final int maxKeysPerRule;
+        private final List<Rule> rules = new ArrayList<>();
+
+        private Builder(int maxKeysPerRule) {
+            this.maxKeysPerRule = maxKeysPerRule;
+        }
+
+        // period 동안 permits개씩 채워지고 최대 capacity개까지 몰아 쓸 수 있음 (먼저 추가한 규칙 우선)
+        public Builder rule(RequestMatcher matcher, int capacity, int permits, Duration period,
+                            Function<HttpServletRequest, String> keyResolver) {
+            rules.add(new Rule(matcher, new TokenBucketRateLimiter(capacity, permits, period, maxKeysPerRule), keyResolver));
+            return this;
+        }
+
+        public RateLimitFilter build() {
+            return new RateLimitFilter(rules);
+        }
+    }
+}
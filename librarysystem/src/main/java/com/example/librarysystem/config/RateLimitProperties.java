@@ -0,0 +1,15 @@
+package com.example.librarysystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private int maxKeysPerRoute = 100000;
+}
@@ -0,0 +1,73 @@
+package com.example.librarysystem.config;
+
+import com.example.librarysystem.dto.DataSourceRoutingStats;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// 읽기 전용 트랜잭션은 replica, 나머지는 primary로 라우팅
+// LazyConnectionDataSourceProxy로 감싸야 트랜잭션 속성이 정해진 뒤에 커넥션을 선택함
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA;
+    }
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final LongAdder primaryRoutes = new LongAdder();
+    private final LongAdder replicaRoutes = new LongAdder();
+    private final LongAdder fallbackRoutes = new LongAdder();
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, HikariDataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (lagMonitor.isReplicaUsable()) {
+                replicaRoutes.increment();
+                return Route.REPLICA;
+            }
+            fallbackRoutes.increment();
+        }
+        primaryRoutes.increment();
+        return Route.PRIMARY;
+    }
+
+    public DataSourceRoutingStats getStats() {
+        return DataSourceRoutingStats.builder()
+                .primaryRoutes(primaryRoutes.sum())
+                .replicaRoutes(replicaRoutes.sum())
+                .fallbackRoutes(fallbackRoutes.sum())
+                .replicaLagMs(lagMonitor.getLagMs())
+                .replicaUsable(lagMonitor.isReplicaUsable())
+                .pools(List.of(poolStats(primary), poolStats(replica)))
+                .build();
+    }
+
+    private DataSourceRoutingStats.PoolStats poolStats(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return DataSourceRoutingStats.PoolStats.builder()
+                .name(dataSource.getPoolName())
+                .maximumPoolSize(dataSource.getMaximumPoolSize())
+                .activeConnections(pool != null ? pool.getActiveConnections() : 0)
+                .idleConnections(pool != null ? pool.getIdleConnections() : 0)
+                .totalConnections(pool != null ? pool.getTotalConnections() : 0)
+                .threadsAwaitingConnection(pool != null ? pool.getThreadsAwaitingConnection() : 0)
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.librarysystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("refresh-token-store")
+public class RefreshTokenStoreProperties {
+    private String type = "jpa";                          // jpa, memory
+    private String snapshotPath = "./data/refresh-tokens.snapshot";
+    private long snapshotIntervalMs = 10000;
+}
@@ -0,0 +1,59 @@
+package com.example.librarysystem.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+// primary에 heartbeat를 기록하고 replica에서 읽어 복제 지연을 측정
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final DataSourceRoutingProperties properties;
+
+    private volatile long lagMs = -1;
+    private volatile long lastCheckedAt = 0;
+    private volatile boolean healthy = false;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource,
+                             DataSourceRoutingProperties properties) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.properties = properties;
+        this.primary.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.heartbeat-interval-ms:1000}")
+    public void heartbeat() {
+        long beatAt = System.currentTimeMillis();
+        try {
+            if (primary.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", beatAt) == 0) {
+                primary.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)", beatAt);
+            }
+            Long replicated = replica.queryForObject("SELECT beat_at FROM replica_heartbeat WHERE id = 1", Long.class);
+            lagMs = replicated == null ? Long.MAX_VALUE : Math.max(0, beatAt - replicated);
+            healthy = true;
+        } catch (Exception e) {
+            if (healthy) {
+                log.warn("Replica heartbeat failed, routing reads to primary", e);
+            }
+            healthy = false;
+        }
+        lastCheckedAt = System.currentTimeMillis();
+    }
+
+    // 최근 측정이 정상이고 지연이 허용 범위 이내일 때만 replica 사용
+    public boolean isReplicaUsable() {
+        long staleAfter = properties.getHeartbeatIntervalMs() * 3;
+        return healthy
+                && System.currentTimeMillis() - lastCheckedAt <= staleAfter
+                && lagMs <= properties.getMaxLagMs();
+    }
+
+    public long getLagMs() {
+        return lagMs;
+    }
+}
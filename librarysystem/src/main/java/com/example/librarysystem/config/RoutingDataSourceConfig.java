@@ -0,0 +1,68 @@
+package com.example.librarysystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    private final DataSourceRoutingProperties routingProperties;
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        dataSource.setMaximumPoolSize(routingProperties.getPrimaryPoolSize());
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        DataSourceRoutingProperties.Replica replica = routingProperties.getReplica();
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(replica.getUrl() != null ? replica.getUrl() : properties.determineUrl())
+                .username(replica.getUsername() != null ? replica.getUsername() : properties.determineUsername())
+                .password(replica.getPassword() != null ? replica.getPassword() : properties.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(replica.getPoolSize());
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                               @Qualifier("replicaDataSource") HikariDataSource replicaDataSource) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, routingProperties);
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                                        @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+                                                        ReplicaLagMonitor replicaLagMonitor) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor);
+    }
+
+    // 실제 커넥션 획득을 첫 쿼리 시점까지 미뤄 readOnly 여부로 라우팅되게 함
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.librarysystem.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -15,12 +17,15 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.time.Duration;
+
 @EnableWebSecurity
 @Configuration
 @RequiredArgsConstructor
 public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CorsConfigurationSource corsConfigurationSource;
+    private final RateLimitProperties rateLimitProperties;
 
     @Bean
     @Order(1)
@@ -29,6 +34,9 @@ public class SecurityConfig {
                 .securityMatcher(new AntPathRequestMatcher("/api/**"))
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 응답의 async dispatch에는 JWT 필터가 다시 돌지 않으므로 최초 요청의 인가만 적용
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                        .permitAll()
                         .requestMatchers(
                                 new AntPathRequestMatcher("/api/auth/**"),
                                 new AntPathRequestMatcher("/api/public/**")
@@ -45,9 +53,30 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
+        if (rateLimitProperties.isEnabled()) {
+            http.addFilterBefore(rateLimitFilter(), JwtAuthenticationFilter.class);
+        }
+
         return http.build();
     }
 
+    // 인증 없이 호출되는 경로의 클라이언트별 요청 수 제한
+    private RateLimitFilter rateLimitFilter() {
+        return RateLimitFilter.builder(rateLimitProperties.getMaxKeysPerRoute())
+                // 도서 검색: 초당 10회, 순간 최대 30회
+                .rule(new AntPathRequestMatcher("/api/public/books/search"),
+                        30, 10, Duration.ofSeconds(1), RateLimitFilter::clientIp)
+                .rule(new AntPathRequestMatcher("/api/public/titles/search"),
+                        30, 10, Duration.ofSeconds(1), RateLimitFilter::clientIp)
+                // 로그인: 분당 10회, 순간 최대 5회 (비밀번호 대입 방지)
+                .rule(new AntPathRequestMatcher("/api/auth/login", HttpMethod.POST.name()),
+                        5, 10, Duration.ofMinutes(1), RateLimitFilter::clientIp)
+                // 토큰 재발급 등 나머지 인증 경로
+                .rule(new AntPathRequestMatcher("/api/auth/**"),
+                        20, 60, Duration.ofMinutes(1), RateLimitFilter::clientIp)
+                .build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -0,0 +1,29 @@
+package com.example.librarysystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("slow-query")
+public class SlowQueryProperties {
+    private boolean enabled = true;
+    private long thresholdMs = 200;
+    // 호출 메서드("LoanService.searchLoans")별 기준, 키에 점이 있으므로 slow-query.thresholds[LoanService.searchLoans]=50 형식
+    private Map<String, Long> thresholds = new HashMap<>();
+    private int capacity = 200;                 // 보관할 최근 기록 수
+    private boolean captureBinds = true;
+    // 이 컬럼에 들어가는 바인드 값은 기록에 남기지 않음 (비밀번호 해시, 리프레시 토큰)
+    private List<String> redactColumns = new ArrayList<>(List.of("password", "refresh_token"));
+    private int maxBindLength = 100;            // 바인드 값 표시 길이
+    private boolean explain = true;             // SELECT는 같은 바인드로 EXPLAIN 실행 (별도 스레드)
+    private int explainQueueSize = 100;
+}
@@ -0,0 +1,83 @@
+package com.example.librarysystem.config;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// GCRA 방식 토큰 버킷
+// 키마다 "버킷이 다시 가득 차는 이론적 시각(TAT)" 하나만 AtomicLong으로 두고 CAS로 갱신하므로 락이 없음
+// TAT가 현재 시각 이전이면 버킷이 가득 찬 것과 같으므로 그런 키는 지워도 동작이 같음 (유휴 키 정리)
+public class TokenBucketRateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final long emissionIntervalNanos;   // 토큰 하나가 채워지는 시간
+    private final long burstNanos;              // 가득 찬 버킷을 비우는 데 해당하는 시간
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow;          // 키가 maxKeys를 넘으면 새 키들이 함께 쓰는 버킷
+    private final AtomicLong nextSweepAt;
+
+    public record Decision(boolean allowed, long remaining, long retryAfterNanos) {
+    }
+
+    public TokenBucketRateLimiter(int capacity, int permits, Duration period, int maxKeys) {
+        if (capacity <= 0 || permits <= 0 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Rate limit capacity, permits and period must be positive");
+        }
+        long now = System.nanoTime();
+        this.emissionIntervalNanos = Math.max(1, period.toNanos() / permits);
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.maxKeys = maxKeys;
+        this.overflow = new AtomicLong(now);
+        this.nextSweepAt = new AtomicLong(now + SWEEP_INTERVAL_NANOS);
+    }
+
+    public Decision tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong tat = bucket(key, now);
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long used = next - now;
+            if (used > burstNanos) {
+                return new Decision(false, 0, used - burstNanos);
+            }
+            if (tat.compareAndSet(current, next)) {
+                return new Decision(true, (burstNanos - used) / emissionIntervalNanos, 0);
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        sweepIfDue(now);
+        AtomicLong tat = buckets.get(key);
+        if (tat != null) {
+            return tat;
+        }
+        if (buckets.size() >= maxKeys) {
+            sweep(now);
+            if (buckets.size() >= maxKeys) {
+                return overflow;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    // 요청 스레드 하나만 정리하도록 CAS로 차례를 정함
+    private void sweepIfDue(long now) {
+        long due = nextSweepAt.get();
+        if (now - due >= 0 && nextSweepAt.compareAndSet(due, now + SWEEP_INTERVAL_NANOS)) {
+            sweep(now);
+        }
+    }
+
+    private void sweep(long now) {
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+    }
+}
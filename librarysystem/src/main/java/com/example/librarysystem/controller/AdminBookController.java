@@ -2,6 +2,8 @@ package com.example.librarysystem.controller;
 
 import com.example.librarysystem.dto.BookCreateRequest;
 import com.example.librarysystem.dto.BookDto;
+import com.example.librarysystem.dto.BulkDeleteRequest;
+import com.example.librarysystem.dto.BulkDeleteResult;
 import com.example.librarysystem.dto.LoanDto;
 import com.example.librarysystem.service.BookService;
 import com.example.librarysystem.service.LoanService;
@@ -18,14 +20,23 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AdminBookController {
 
+    private static final int MAX_BULK_DELETE = 10_000;
+
     private final BookService bookService;
     private final LoanService loanService;
 
-    // 모든 도서 조회
+    // 모든 도서 조회 (fields=title,author 처럼 필요한 필드만 요청 가능)
     @GetMapping
-    public ResponseEntity<Page<BookDto>> getAllBooks(Pageable pageable) {
-        Page<BookDto> books = bookService.getAllBooks(pageable);
-        return ResponseEntity.ok(books);
+    public ResponseEntity<Page<?>> getAllBooks(Pageable pageable,
+                                               @RequestParam(required = false) List<String> fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(bookService.getAllBooks(pageable));
+        }
+        try {
+            return ResponseEntity.ok(bookService.getAllBooks(fields, pageable));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // 도서 상세 조회
@@ -67,4 +78,18 @@ public class AdminBookController {
         bookService.deleteBook(id);
         return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+
+    // 도서 일괄 삭제
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteResult> deleteBooks(@RequestBody BulkDeleteRequest request) {
+        List<Long> ids = request.getIds();
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BULK_DELETE) {
+            return ResponseEntity.badRequest().build();
+        }
+        int deleted = bookService.deleteBooks(ids);
+        return ResponseEntity.ok(BulkDeleteResult.builder()
+                .requested(ids.size())
+                .deleted(deleted)
+                .build());
+    }
+}
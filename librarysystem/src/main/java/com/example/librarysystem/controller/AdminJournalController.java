@@ -0,0 +1,36 @@
+package com.example.librarysystem.controller;
+
+import com.example.librarysystem.dto.JournalEntryDto;
+import com.example.librarysystem.journal.CirculationJournalRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/journal")
+@RequiredArgsConstructor
+public class AdminJournalController {
+
+    private final ObjectProvider<CirculationJournalRecorder> journalRecorder;
+
+    // 기간 별 대출/반납/도서/회원 변경 이력 조회
+    @GetMapping
+    public ResponseEntity<List<JournalEntryDto>> scan(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "1000") int limit) throws IOException {
+        CirculationJournalRecorder recorder = journalRecorder.getIfAvailable();
+        if (recorder == null) {
+            return ResponseEntity.notFound().build();
+        }
+        ZoneId zone = ZoneId.systemDefault();
+        return ResponseEntity.ok(recorder.scan(from.atZone(zone).toInstant(), to.atZone(zone).toInstant(), limit));
+    }
+}
@@ -19,25 +19,39 @@ public class AdminLoanController {
 
     private final LoanService loanService;
 
-    // 현재 모든 대출 현황 조회
+    // 현재 모든 대출 현황 조회 (fields=book.title,user.username,dueDate 처럼 필요한 필드만 요청 가능)
     @GetMapping
-    public ResponseEntity<Page<LoanDto>> getAllActiveLoans(
+    public ResponseEntity<Page<?>> getAllActiveLoans(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) List<String> fields) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<LoanDto> loans = loanService.getAllActiveLoansWithPaging(pageable);
-        return ResponseEntity.ok(loans);
+        if (fields == null) {
+            return ResponseEntity.ok(loanService.getAllActiveLoansWithPaging(pageable));
+        }
+        try {
+            return ResponseEntity.ok(loanService.getAllActiveLoansWithPaging(fields, pageable));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // 연체되지 않은 대출 현황 조회
     @GetMapping("/search")
-    public ResponseEntity<Page<LoanDto>> searchLoans(
+    public ResponseEntity<Page<?>> searchLoans(
             @RequestParam String query,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) List<String> fields) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<LoanDto> loans = loanService.searchLoans(query, pageable);
-        return ResponseEntity.ok(loans);
+        if (fields == null) {
+            return ResponseEntity.ok(loanService.searchLoans(query, pageable));
+        }
+        try {
+            return ResponseEntity.ok(loanService.searchLoans(query, fields, pageable));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // 연체된 대출 현황 조회
@@ -0,0 +1,133 @@
+package com.example.librarysystem.controller;
+
+import com.example.librarysystem.changelog.ChangeLogPoller;
+import com.example.librarysystem.config.ReadWriteRoutingDataSource;
+import com.example.librarysystem.dto.CacheRegionStats;
+import com.example.librarysystem.dto.ChangeLogStats;
+import com.example.librarysystem.dto.CirculationStreamStats;
+import com.example.librarysystem.dto.DataSourceRoutingStats;
+import com.example.librarysystem.dto.EventConsumerStats;
+import com.example.librarysystem.dto.LoanArchiveStats;
+import com.example.librarysystem.dto.LoanReminderStats;
+import com.example.librarysystem.dto.SearchCacheStats;
+import com.example.librarysystem.dto.SearchCoalescingStats;
+import com.example.librarysystem.dto.SlowQueryDto;
+import com.example.librarysystem.event.DomainEventBus;
+import com.example.librarysystem.service.BookSearchCache;
+import com.example.librarysystem.service.BookSearchCoalescer;
+import com.example.librarysystem.service.CacheStatisticsService;
+import com.example.librarysystem.service.LoanArchiveService;
+import com.example.librarysystem.service.LoanReminderService;
+import com.example.librarysystem.slowquery.SlowQueryRecorder;
+import com.example.librarysystem.stream.CirculationEventStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/monitoring")
+@RequiredArgsConstructor
+public class AdminMonitoringController {
+
+    private final ObjectProvider<ReadWriteRoutingDataSource> routingDataSource;
+    private final CacheStatisticsService cacheStatisticsService;
+    private final DomainEventBus domainEventBus;
+    private final LoanArchiveService loanArchiveService;
+    private final LoanReminderService loanReminderService;
+    private final ObjectProvider<ChangeLogPoller> changeLogPoller;
+    private final BookSearchCoalescer bookSearchCoalescer;
+    private final BookSearchCache bookSearchCache;
+    private final CirculationEventStream circulationEventStream;
+    private final ObjectProvider<SlowQueryRecorder> slowQueryRecorder;
+
+    // 읽기/쓰기 라우팅 및 커넥션 풀 현황 조회
+    @GetMapping("/datasource")
+    public ResponseEntity<DataSourceRoutingStats> getDataSourceStats() {
+        ReadWriteRoutingDataSource dataSource = routingDataSource.getIfAvailable();
+        if (dataSource == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(dataSource.getStats());
+    }
+
+    // 2차 캐시 region 별 통계 조회
+    @GetMapping("/cache/regions")
+    public ResponseEntity<List<CacheRegionStats>> getCacheRegionStats() {
+        return ResponseEntity.ok(cacheStatisticsService.getRegionStatistics());
+    }
+
+    // 이벤트 소비자 별 처리 순번 및 지연 조회
+    @GetMapping("/events")
+    public ResponseEntity<List<EventConsumerStats>> getEventConsumerStats() {
+        return ResponseEntity.ok(domainEventBus.getStats());
+    }
+
+    // 대출 이력 이관 진행 상황 및 지연 조회
+    @GetMapping("/loan-archive")
+    public ResponseEntity<LoanArchiveStats> getLoanArchiveStats() {
+        return ResponseEntity.ok(loanArchiveService.getStats());
+    }
+
+    // 반납 예정 알림 커서 위치 및 미발송 건수 조회
+    @GetMapping("/loan-reminders")
+    public ResponseEntity<LoanReminderStats> getLoanReminderStats() {
+        return ResponseEntity.ok(loanReminderService.getStats());
+    }
+
+    // 노드 간 캐시 무효화 지연 조회
+    @GetMapping("/change-log")
+    public ResponseEntity<ChangeLogStats> getChangeLogStats() {
+        ChangeLogPoller poller = changeLogPoller.getIfAvailable();
+        if (poller == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(poller.getStats());
+    }
+
+    // 동일 검색 요청 병합 현황 조회
+    @GetMapping("/search-coalescing")
+    public ResponseEntity<SearchCoalescingStats> getSearchCoalescingStats() {
+        return ResponseEntity.ok(bookSearchCoalescer.getStats());
+    }
+
+    // 검색 결과 캐시 적중률 및 크기 조회
+    @GetMapping("/search-cache")
+    public ResponseEntity<SearchCacheStats> getSearchCacheStats() {
+        return ResponseEntity.ok(bookSearchCache.getStats());
+    }
+
+    // SSE 구독자 수, 병합/resync 현황 조회
+    @GetMapping("/circulation-stream")
+    public ResponseEntity<CirculationStreamStats> getCirculationStreamStats() {
+        return ResponseEntity.ok(circulationEventStream.getStats());
+    }
+
+    // 기준 시간을 넘긴 최근 SQL (최신순, caller로 메서드 필터 "LoanService.searchLoans")
+    @GetMapping("/slow-queries")
+    public ResponseEntity<List<SlowQueryDto>> getSlowQueries(
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String caller) {
+        SlowQueryRecorder recorder = slowQueryRecorder.getIfAvailable();
+        if (recorder == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(recorder.getRecent(Math.max(0, limit), caller));
+    }
+
+    @DeleteMapping("/slow-queries")
+    public ResponseEntity<Void> clearSlowQueries() {
+        SlowQueryRecorder recorder = slowQueryRecorder.getIfAvailable();
+        if (recorder == null) {
+            return ResponseEntity.notFound().build();
+        }
+        recorder.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
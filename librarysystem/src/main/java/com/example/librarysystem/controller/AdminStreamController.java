@@ -0,0 +1,32 @@
+package com.example.librarysystem.controller;
+
+import com.example.librarysystem.stream.CirculationEventStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/admin/stream")
+@RequiredArgsConstructor
+public class AdminStreamController {
+
+    private final CirculationEventStream circulationEventStream;
+
+    // 도서 상태(book), 대출(loan), 반납(return), 연체 전환(overdue) 이벤트 구독
+    // resync 이벤트를 받으면 놓친 변경이 있으므로 화면의 목록을 다시 읽어야 함
+    @GetMapping(path = "/circulation", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamCirculation(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        try {
+            return ResponseEntity.ok(circulationEventStream.subscribe(lastEventId != null));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+}
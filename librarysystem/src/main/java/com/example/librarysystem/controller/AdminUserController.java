@@ -1,10 +1,15 @@
 package com.example.librarysystem.controller;
 
+import com.example.librarysystem.dto.BulkDeleteRequest;
+import com.example.librarysystem.dto.BulkDeleteResult;
 import com.example.librarysystem.dto.LoanDto;
 import com.example.librarysystem.dto.MemberCreateRequest;
+import com.example.librarysystem.dto.MemberDetailDto;
 import com.example.librarysystem.dto.MemberDto;
+import com.example.librarysystem.dto.MemberLoanSummaryDto;
 import com.example.librarysystem.dto.UserLoanStatistics;
 import com.example.librarysystem.service.LoanService;
+import com.example.librarysystem.service.MemberDetailService;
 import com.example.librarysystem.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -19,13 +24,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AdminUserController {
 
+    private static final int MAX_BULK_DELETE = 10_000;
+
     private final MemberService memberService;
     private final LoanService loanService;
+    private final MemberDetailService memberDetailService;
 
-    // 모든 사용자 조회
+    // 모든 사용자 조회 (대출 중/연체 건수 포함, sort=activeLoans,desc 또는 sort=overdueLoans,desc 지원)
     @GetMapping
-    public ResponseEntity<Page<MemberDto>> getAllUsers(Pageable pageable) {
-        Page<MemberDto> users = memberService.getAllMembers(pageable);
+    public ResponseEntity<Page<MemberLoanSummaryDto>> getAllUsers(Pageable pageable) {
+        Page<MemberLoanSummaryDto> users = memberService.getMembersWithLoanCounts(pageable);
         return ResponseEntity.ok(users);
     }
 
@@ -37,6 +45,14 @@ public class AdminUserController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // 회원 정보, 전체 대출 내역, 현재 대출 현황, 대출 통계를 한 번에 조회 (일부 조회가 실패하면 failures에 사유)
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<MemberDetailDto> getUserDetail(@PathVariable Long id) {
+        return memberDetailService.getMemberDetail(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     // 사용자 추가
     @PostMapping
     public ResponseEntity<MemberDto> createUser(@RequestBody MemberCreateRequest request) {
@@ -108,4 +124,18 @@ public class AdminUserController {
             return ResponseEntity.notFound().build();
         }
     }
+
+    // 사용자 일괄 삭제
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteResult> deleteMembers(@RequestBody BulkDeleteRequest request) {
+        List<Long> ids = request.getIds();
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BULK_DELETE) {
+            return ResponseEntity.badRequest().build();
+        }
+        int deleted = memberService.deleteMembers(ids);
+        return ResponseEntity.ok(BulkDeleteResult.builder()
+                .requested(ids.size())
+                .deleted(deleted)
+                .build());
+    }
 }
@@ -2,8 +2,7 @@ package com.example.librarysystem.controller;
 
 import com.example.librarysystem.dto.RequestAccessToken;
 import com.example.librarysystem.dto.ResponseAccessToken;
-import com.example.librarysystem.repository.MemberRepository;
-import com.example.librarysystem.repository.RefreshTokenRepository;
+import com.example.librarysystem.repository.RefreshTokenStore;
 import com.example.librarysystem.service.JwtService;
 import com.example.librarysystem.service.TokenAuthenticationService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,7 +20,7 @@ import java.util.Map;
 public class AuthController {
 
     private final TokenAuthenticationService tokenAuthenticationService;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final JwtService jwtService;
 
     @PostMapping("/login")
@@ -61,9 +60,8 @@ public class AuthController {
                         .getPayload()
                         .getSubject();
 
-                // DB에서 Refresh Token 완전 삭제
-                refreshTokenRepository.findByMember_Username(username)
-                        .ifPresent(refreshTokenRepository::delete);
+                // 저장소에서 Refresh Token 완전 삭제
+                refreshTokenStore.delete(username);
             }
 
             Map<String, String> response = new HashMap<>();
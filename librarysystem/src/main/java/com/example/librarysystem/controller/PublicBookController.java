@@ -2,18 +2,28 @@ package com.example.librarysystem.controller;
 
 import com.example.librarysystem.dto.BookDto;
 import com.example.librarysystem.dto.BookSearchRequest;
+import com.example.librarysystem.dto.PopularityReport;
+import com.example.librarysystem.dto.RelatedBookDto;
 import com.example.librarysystem.service.BookService;
+import com.example.librarysystem.service.PopularityTracker;
+import com.example.librarysystem.service.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Locale;
+
 @RestController
 @RequestMapping("/api/public/books")
 @RequiredArgsConstructor
 public class PublicBookController {
 
     private final BookService bookService;
+    private final PopularityTracker popularityTracker;
 
     // 도서 검색
     @GetMapping("/search")
@@ -24,7 +34,9 @@ public class PublicBookController {
             @RequestParam(defaultValue = "title") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDirection,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean facets,
+            @RequestParam(defaultValue = "false") boolean availableOnly
     ) {
         BookSearchRequest request = new BookSearchRequest();
         request.setTitle(title);
@@ -34,8 +46,44 @@ public class PublicBookController {
         request.setSortDirection(sortDirection);
         request.setPage(page);
         request.setSize(size);
+        request.setFacets(facets);
+        request.setAvailableOnly(availableOnly);
+
+        try {
+            Page<BookDto> books = bookService.searchBooks(request);
+            return ResponseEntity.ok(books);
+        } catch (SingleFlight.RejectedException e) {
+            // 같은 검색이 몰려 대기열이 가득 찬 경우 잠시 후 재시도하도록 안내
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+    }
 
-        Page<BookDto> books = bookService.searchBooks(request);
-        return ResponseEntity.ok(books);
+    // 기간별 많이 대출된 도서/저자/출판사 (window: day, week, month / by: book, author, publisher)
+    @GetMapping("/popular")
+    public ResponseEntity<PopularityReport> getPopular(
+            @RequestParam(defaultValue = "week") String window,
+            @RequestParam(defaultValue = "book") String by,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        try {
+            PopularityReport report = popularityTracker.top(
+                    PopularityTracker.Window.valueOf(window.toUpperCase(Locale.ROOT)),
+                    PopularityTracker.Dimension.valueOf(by.toUpperCase(Locale.ROOT)),
+                    Math.max(1, Math.min(limit, 100)));
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 이 도서를 빌린 회원이 함께 빌린 도서
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<RelatedBookDto>> getRelatedBooks(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(bookService.getRelatedBooks(id, Math.max(1, Math.min(limit, 50))));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package com.example.librarysystem.controller;
+
+import com.example.librarysystem.dto.BookSearchRequest;
+import com.example.librarysystem.dto.BookTitleDto;
+import com.example.librarysystem.service.BookTitleService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/public/titles")
+@RequiredArgsConstructor
+public class PublicTitleController {
+
+    private final BookTitleService bookTitleService;
+
+    // 타이틀 검색 (사본이 여러 권이어도 한 번만 나오며 대출 가능 사본 수 포함)
+    @GetMapping("/search")
+    public ResponseEntity<Page<BookTitleDto>> searchTitles(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) String publisher,
+            @RequestParam(defaultValue = "title") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean availableOnly
+    ) {
+        BookSearchRequest request = new BookSearchRequest();
+        request.setTitle(title);
+        request.setAuthor(author);
+        request.setPublisher(publisher);
+        request.setSortBy(sortBy);
+        request.setSortDirection(sortDirection);
+        request.setPage(page);
+        request.setSize(size);
+        request.setAvailableOnly(availableOnly);
+
+        return ResponseEntity.ok(bookTitleService.searchTitles(request));
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.librarysystem.domain;
+
+import com.example.librarysystem.domain.enums.LoanStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 보존 기간이 지난 반납 완료 대출 (id는 원래 대출 id를 그대로 사용)
+@Entity
+@Data
+@Table(name = "loans_archive", indexes = {
+        @Index(name = "idx_loans_archive_user", columnList = "user_id"),
+        @Index(name = "idx_loans_archive_book", columnList = "book_id")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ArchivedLoan {
+
+    @Id
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "user_id")
+    private Member member;
+
+    @ManyToOne
+    @JoinColumn(name = "book_id")
+    private Book book;
+
+    private LocalDateTime loanDate;
+
+    private LocalDateTime dueDate;
+
+    private LocalDateTime returnDate;
+
+    @Enumerated(EnumType.STRING)
+    private LoanStatus status;
+
+    private LocalDateTime archivedAt;
+}
@@ -5,14 +5,22 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Data
-@Table(name = "books")
+@Table(name = "books", indexes = {
+        @Index(name = "idx_books_title_status", columnList = "title_id, status")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book")
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -39,10 +47,21 @@ public class Book {
     @Builder.Default
     private BookStatus status = BookStatus.AVAILABLE;
 
+    // 사본이 속한 타이틀 (마이그레이션 전의 도서는 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "title_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private BookTitle bookTitle;
+
     @OneToMany(mappedBy = "book", cascade = CascadeType.ALL)
     @Builder.Default
     private List<Loan> loans = new ArrayList<>();
 
+    @OneToMany(mappedBy = "book", cascade = CascadeType.ALL)
+    @Builder.Default
+    private List<ArchivedLoan> archivedLoans = new ArrayList<>();
+
     // 현재 대출 여부 확인
     public boolean isAvailable() {
         return status == BookStatus.AVAILABLE;
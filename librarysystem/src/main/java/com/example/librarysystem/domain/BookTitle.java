@@ -0,0 +1,58 @@
+package com.example.librarysystem.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Locale;
+
+// 같은 서지 정보를 가진 사본(books)을 묶는 타이틀
+// 사본 수와 대출 가능 사본 수는 조건부 UPDATE로만 바꿈 (BookTitleRepository)
+@Entity
+@Data
+@Table(name = "titles",
+        uniqueConstraints = @UniqueConstraint(name = "uk_titles_title_key", columnNames = "title_key"),
+        indexes = @Index(name = "idx_titles_title", columnList = "title"))
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookTitle {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "title_key", nullable = false, length = 1024)
+    private String titleKey;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String author;
+
+    @Column(nullable = false)
+    private String publisher;
+
+    private Integer publishedAt;
+
+    private int totalCopies;
+
+    private int availableCopies;
+
+    // 서지 정보가 같으면 같은 타이틀 (대소문자와 앞뒤 공백 무시)
+    public static String keyOf(String title, String author, String publisher, Integer publishedAt) {
+        return String.join("|", normalize(title), normalize(author), normalize(publisher),
+                publishedAt == null ? "" : publishedAt.toString());
+    }
+
+    public static String keyOf(Book book) {
+        return keyOf(book.getTitle(), book.getAuthor(), book.getPublisher(), book.getPublishedAt());
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.librarysystem.domain;
+
+import com.example.librarysystem.domain.enums.ChangeTarget;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 다른 노드의 로컬 캐시 무효화를 위한 변경 기록 (쓰기와 같은 트랜잭션에서 추가)
+@Entity
+@Data
+@Table(name = "change_log", indexes = {
+        @Index(name = "idx_change_log_created_at", columnList = "createdAt")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ChangeLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ChangeTarget target;
+
+    private Long targetId;
+
+    @Column(length = 100)
+    private String targetKey;     // 회원/토큰의 username 등 id 외의 캐시 키
+
+    @Column(nullable = false, length = 64)
+    private String originNode;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
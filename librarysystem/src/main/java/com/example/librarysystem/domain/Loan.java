@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "loans")
+@Table(name = "loans", indexes = {
+        @Index(name = "idx_loans_status_due_date", columnList = "status, dueDate, id"),
+        @Index(name = "idx_loans_loan_date", columnList = "loanDate")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
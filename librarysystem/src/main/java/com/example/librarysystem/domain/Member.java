@@ -6,6 +6,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,6 +17,9 @@ import java.util.List;
 @Entity
 @Data
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
+@NaturalIdCache
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -23,6 +30,7 @@ public class Member {
     @Column(name = "user_id")
     private Long id;
 
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true)
     private String username;
 
@@ -42,6 +50,10 @@ public class Member {
     @Builder.Default
     private List<Loan> loans = new ArrayList<>();
 
+    @OneToMany(mappedBy = "member", cascade = CascadeType.ALL)
+    @Builder.Default
+    private List<ArchivedLoan> archivedLoans = new ArrayList<>();
+
     @OneToOne(cascade = CascadeType.ALL)
     private RefreshToken refreshToken;
 }
\ No newline at end of file
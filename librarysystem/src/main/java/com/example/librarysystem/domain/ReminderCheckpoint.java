@@ -0,0 +1,36 @@
+package com.example.librarysystem.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 알림 기준 시간별 마지막으로 처리한 (dueDate, id) 위치
+@Entity
+@Data
+@Table(name = "reminder_checkpoints")
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReminderCheckpoint {
+
+    @Id
+    private Integer thresholdHours;
+
+    @Column(nullable = false)
+    private LocalDateTime dueCursor;
+
+    @Column(nullable = false)
+    private Long loanIdCursor;
+
+    @Column(nullable = false)
+    private LocalDateTime createdCursor;    // 늦게 들어온 대출을 다시 확인할 기준 대출일
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,48 @@
+package com.example.librarysystem.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 반납 예정 알림 outbox (대출 하나에 기준 시간별로 한 번만 기록)
+// 대출이 이관/삭제되어도 알림 기록은 남도록 외래 키 없이 값만 보관
+@Entity
+@Data
+@Table(name = "reminder_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reminder_outbox_loan_threshold", columnNames = {"loan_id", "threshold_hours"}),
+        indexes = @Index(name = "idx_reminder_outbox_dispatched_at", columnList = "dispatchedAt, id"))
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReminderOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "loan_id", nullable = false)
+    private Long loanId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long memberId;
+
+    @Column(length = 100)
+    private String username;
+
+    private String bookTitle;
+
+    @Column(name = "threshold_hours", nullable = false)
+    private Integer thresholdHours;
+
+    @Column(nullable = false)
+    private LocalDateTime dueDate;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime dispatchedAt;
+}
@@ -0,0 +1,7 @@
+package com.example.librarysystem.domain.enums;
+
+public enum ChangeTarget {
+    BOOK,
+    MEMBER,
+    TOKEN;
+}
@@ -0,0 +1,15 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class BookFacets {
+    private Map<String, Integer> publisher;   // 출판사 별 건수
+    private Map<String, Integer> decade;      // 출간 연대 별 건수 (예: 2010s)
+    private Map<String, Integer> priceBand;   // 가격대 별 건수
+    private Map<String, Integer> status;      // 대출 상태 별 건수
+}
@@ -0,0 +1,21 @@
+package com.example.librarysystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+// 기존 페이지 응답에 facet 건수를 덧붙인 검색 결과
+public class BookSearchPage extends PageImpl<BookDto> {
+
+    private final BookFacets facets;
+
+    public BookSearchPage(Page<BookDto> page, BookFacets facets) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.facets = facets;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public BookFacets getFacets() {
+        return facets;
+    }
+}
@@ -11,4 +11,6 @@ public class BookSearchRequest {
     private String sortDirection = "asc"; // asc, desc
     private int page = 0;
     private int size = 10;
+    private boolean facets = false; // facet 건수 포함 여부
+    private boolean availableOnly = false; // 대출 가능한 도서만
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BookTitleDto {
+    private Long id;
+    private String title;
+    private String author;
+    private String publisher;
+    private Integer publishedAt;
+    private int totalCopies;
+    private int availableCopies;
+    private boolean available;
+}
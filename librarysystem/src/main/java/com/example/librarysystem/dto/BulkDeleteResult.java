@@ -0,0 +1,11 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BulkDeleteResult {
+    private int requested;
+    private int deleted;     // 실제로 존재해서 삭제된 수
+}
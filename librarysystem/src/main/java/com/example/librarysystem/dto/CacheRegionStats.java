@@ -0,0 +1,15 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CacheRegionStats {
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private long elementCountInMemory;
+    private double hitRatio;
+}
@@ -0,0 +1,22 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class ChangeLogStats {
+    private String nodeId;
+    private long lastSeenId;
+    private long applied;                  // 다른 노드의 변경을 반영한 건수
+    private long skippedOwn;               // 이 노드가 남긴 기록 (이미 로컬에 반영됨)
+    private int pendingGaps;               // 커밋을 기다리는 중간 id 수
+    private LocalDateTime lastPollAt;
+    private long lastPollMillis;
+    private long maxPollMillis;
+    private long lastLagMillis;            // 기록 시각부터 이 노드에서 무효화될 때까지
+    private long maxLagMillis;
+    private long stalenessBoundMillis;     // 폴링 주기 + 최대 폴링 소요 시간
+}
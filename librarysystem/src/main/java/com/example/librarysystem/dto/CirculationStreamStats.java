@@ -0,0 +1,17 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class CirculationStreamStats {
+    private int subscribers;                  // 현재 연결된 구독자 수
+    private long published;                   // 발행한 이벤트 수
+    private long sent;                        // 구독자에게 전송한 이벤트 수 (resync 포함)
+    private long coalesced;                   // 전송 전에 같은 도서의 최신 상태로 합쳐진 수
+    private long overflows;                   // 대기열이 넘쳐 resync로 바꾼 횟수
+    private LocalDateTime lastOverdueScanAt;  // 마지막 연체 전환 검사 시각
+}
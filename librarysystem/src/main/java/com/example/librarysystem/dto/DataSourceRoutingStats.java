@@ -0,0 +1,28 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class DataSourceRoutingStats {
+    private long primaryRoutes;    // primary로 보낸 커넥션 수
+    private long replicaRoutes;    // replica로 보낸 커넥션 수
+    private long fallbackRoutes;   // replica 지연/장애로 primary로 우회한 읽기 수
+    private long replicaLagMs;
+    private boolean replicaUsable;
+    private List<PoolStats> pools;
+
+    @Data
+    @Builder
+    public static class PoolStats {
+        private String name;
+        private int maximumPoolSize;
+        private int activeConnections;
+        private int idleConnections;
+        private int totalConnections;
+        private int threadsAwaitingConnection;
+    }
+}
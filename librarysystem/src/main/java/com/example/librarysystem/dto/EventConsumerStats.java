@@ -0,0 +1,15 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class EventConsumerStats {
+    private String consumer;
+    private long sequence;     // 마지막으로 처리 완료한 순번
+    private long lag;          // 발행됐지만 아직 처리하지 않은 이벤트 수
+    private long processed;
+    private long failures;
+    private long skipped;      // 재시도 한도를 넘어 건너뛴 이벤트 수
+}
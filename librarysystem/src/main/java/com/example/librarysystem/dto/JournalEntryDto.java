@@ -0,0 +1,15 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class JournalEntryDto {
+    private long sequence;
+    private Instant timestamp;
+    private String type;
+    private Object event;
+}
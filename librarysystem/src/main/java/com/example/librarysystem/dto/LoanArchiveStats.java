@@ -0,0 +1,18 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class LoanArchiveStats {
+    private long totalArchived;            // 기동 이후 이관한 대출 수
+    private long lastRunArchived;
+    private LocalDateTime lastRunStartedAt;
+    private LocalDateTime lastRunFinishedAt;
+    private long lastChunkMillis;
+    private long backlog;                  // 보존 기간이 지났지만 아직 이관되지 않은 대출 수
+    private long lagSeconds;               // 가장 오래된 미이관 대출이 보존 기간을 넘긴 시간
+}
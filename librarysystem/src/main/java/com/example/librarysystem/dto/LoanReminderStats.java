@@ -0,0 +1,21 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+public class LoanReminderStats {
+    private long totalEnqueued;                      // 기동 이후 outbox에 기록한 알림 수
+    private long lastRunEnqueued;
+    private LocalDateTime lastRunStartedAt;
+    private LocalDateTime lastRunFinishedAt;
+    private long lastChunkMillis;
+    private Map<Integer, LocalDateTime> dueCursors;  // 기준 시간 -> 마지막으로 처리한 반납 예정일
+    private long pending;                            // 아직 발송되지 않은 알림 수
+    private long totalDispatched;
+    private LocalDateTime lastDispatchAt;
+}
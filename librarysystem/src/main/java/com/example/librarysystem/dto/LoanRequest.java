@@ -6,5 +6,6 @@ import lombok.Data;
 public class LoanRequest {
     private Long userId;
     private Long bookId;
+    private Long titleId;           // bookId 대신 지정하면 타이틀의 아무 대출 가능 사본
     private Integer loanDays = 14; // 기본값 14일
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+// 관리자 회원 상세 화면용 합성 응답 (실패하거나 시간 안에 끝나지 않은 항목은 null, 사유는 failures)
+@Data
+@Builder
+public class MemberDetailDto {
+    private MemberDto user;
+    private List<LoanDto> loans;              // 이관된 이력을 포함한 전체 대출 (대출일 역순)
+    private List<LoanDto> activeLoans;        // 현재 대출 중
+    private UserLoanStatistics statistics;
+    private Map<String, String> failures;     // 조회 이름 -> 실패 사유
+    private long elapsedMillis;
+}
@@ -0,0 +1,18 @@
+package com.example.librarysystem.dto;
+
+import com.example.librarysystem.domain.enums.UserType;
+import lombok.Builder;
+import lombok.Data;
+
+// 회원 목록 한 행 (대출 건수 포함)
+@Data
+@Builder
+public class MemberLoanSummaryDto {
+    private Long id;
+    private String username;
+    private String contact;
+    private String memo;
+    private UserType userType;
+    private long activeLoans;     // 현재 대출 중인 도서 수
+    private long overdueLoans;    // 연체 중인 도서 수
+}
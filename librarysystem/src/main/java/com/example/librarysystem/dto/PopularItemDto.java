@@ -0,0 +1,13 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PopularItemDto {
+    private Long bookId;            // 도서 순위일 때만
+    private String name;            // 도서명, 저자 또는 출판사
+    private long estimatedLoans;    // 참값 이상인 추정치
+    private long minLoans;          // estimatedLoans - errorBound (참값 이하)
+}
@@ -0,0 +1,19 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+public class PopularityReport {
+    private String window;
+    private String dimension;
+    private Instant from;           // 버킷 단위로 잘린 실제 집계 시작 시각
+    private long totalLoans;
+    private long errorBound;        // 추정치가 참값을 넘는 최대 폭
+    private double confidence;      // errorBound가 성립할 확률
+    private List<PopularItemDto> items;
+}
@@ -0,0 +1,11 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RelatedBookDto {
+    private BookDto book;
+    private long coBorrowers;     // 두 도서를 모두 빌린 회원 수
+}
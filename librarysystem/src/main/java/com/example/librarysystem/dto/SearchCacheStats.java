@@ -0,0 +1,18 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SearchCacheStats {
+    private long catalogVersion;
+    private long entries;
+    private long estimatedBytes;          // weigher로 추정한 캐시 크기
+    private long maxBytes;
+    private long hits;
+    private long misses;
+    private long staleMisses;             // 항목은 있었지만 카탈로그 버전이 바뀐 경우
+    private double hitRate;
+    private long evictions;
+}
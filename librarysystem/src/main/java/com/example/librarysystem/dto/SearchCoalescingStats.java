@@ -0,0 +1,14 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SearchCoalescingStats {
+    private int inFlight;          // 현재 실행 중인 서로 다른 검색 수
+    private long executions;       // 실제로 DB를 조회한 검색 수
+    private long shared;           // 다른 요청의 결과를 함께 받은 검색 수
+    private long rejected;         // 대기자 한도 초과로 거부
+    private long timedOut;         // 대기 시간 초과로 거부
+}
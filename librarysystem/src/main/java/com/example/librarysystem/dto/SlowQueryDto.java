@@ -0,0 +1,23 @@
+package com.example.librarysystem.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class SlowQueryDto {
+    private long id;
+    private LocalDateTime capturedAt;
+    private String caller;            // 쿼리를 실행한 메서드 ("LoanService.searchLoans")
+    private String sql;
+    private List<String> binds;       // 파라미터 순서대로 (길면 잘림)
+    private long rows;                // 조회/변경 행 수 (알 수 없으면 -1)
+    private int batchSize;            // 배치 실행이면 묶인 건수 (binds는 첫 건)
+    private long durationMillis;
+    private long thresholdMillis;     // 적용된 기준
+    private String plan;              // H2 EXPLAIN 결과 (실행 전이거나 SELECT가 아니면 null)
+    private String planError;
+}
@@ -0,0 +1,18 @@
+package com.example.librarysystem.event;
+
+import com.example.librarysystem.domain.Book;
+import com.example.librarysystem.domain.enums.BookStatus;
+
+public record BookChanged(Long bookId, ChangeType type,
+                          String title, String author, String publisher,
+                          Integer publishedAt, Integer price, BookStatus status) implements DomainEvent {
+
+    public static BookChanged of(Book book, ChangeType type) {
+        return new BookChanged(book.getId(), type, book.getTitle(), book.getAuthor(), book.getPublisher(),
+                book.getPublishedAt(), book.getPrice(), book.getStatus());
+    }
+
+    public static BookChanged deleted(Long bookId) {
+        return new BookChanged(bookId, ChangeType.DELETED, null, null, null, null, null, null);
+    }
+}
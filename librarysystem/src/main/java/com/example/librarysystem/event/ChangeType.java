@@ -0,0 +1,7 @@
+package com.example.librarysystem.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED;
+}
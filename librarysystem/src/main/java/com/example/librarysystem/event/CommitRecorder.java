@@ -0,0 +1,12 @@
+package com.example.librarysystem.event;
+
+// 커밋 직전에 커밋하는 스레드에서 이벤트를 기록 (버스 소비자와 달리 비동기 구간이 없어 건너뛰는 일이 없음)
+// beforeCommit이 예외를 던지면 트랜잭션이 롤백되므로, 커밋된 변경은 반드시 기록돼 있음
+// 기록 뒤 커밋이 롤백되면 rolledBack으로 그 기록을 무효화
+public interface CommitRecorder {
+
+    // 반환값은 rolledBack에 넘길 기록 위치
+    long beforeCommit(DomainEvent event);
+
+    void rolledBack(long position);
+}
@@ -0,0 +1,5 @@
+package com.example.librarysystem.event;
+
+// 커밋 이후 버스로 전달되는 도메인 이벤트
+public sealed interface DomainEvent permits LoanCreated, LoanReturned, BookChanged, MemberChanged {
+}
@@ -0,0 +1,240 @@
+package com.example.librarysystem.event;
+
+import com.example.librarysystem.dto.EventConsumerStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 커밋 이후 도메인 이벤트를 링 버퍼에 발행하고, 소비자별 전용 스레드가 배치로 처리
+// 커밋 직전에는 CommitRecorder(저널)에 같은 이벤트를 커밋하는 스레드에서 먼저 기록
+@Slf4j
+@Component
+public class DomainEventBus implements SmartLifecycle {
+
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MAX_RETRY_BACKOFF_MS = 5000;
+    private static final long STOP_TIMEOUT_SECONDS = 5;
+
+    private final EventRingBuffer ringBuffer;
+    private final ObjectProvider<DomainEventConsumer> consumerProvider;
+    private final ObjectProvider<CommitRecorder> recorderProvider;
+    private volatile List<CommitRecorder> recorders;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final List<ConsumerWorker> workers = new CopyOnWriteArrayList<>();
+    private volatile boolean running = false;
+
+    public DomainEventBus(ObjectProvider<DomainEventConsumer> consumerProvider,
+                          ObjectProvider<CommitRecorder> recorderProvider,
+                          @Value("${event-bus.buffer-size:8192}") int bufferSize,
+                          @Value("${event-bus.batch-size:256}") int batchSize,
+                          @Value("${event-bus.max-attempts:10}") int maxAttempts) {
+        this.ringBuffer = new EventRingBuffer(bufferSize);
+        this.consumerProvider = consumerProvider;
+        this.recorderProvider = recorderProvider;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤에 발행 (롤백 시 버림)
+    // 기록기에는 커밋 직전에 기록하고, 그 뒤 커밋이 롤백되면 기록을 무효화
+    // (커밋 결과를 알 수 없는 STATUS_UNKNOWN은 커밋된 것으로 보고 남겨 둠)
+    public void publishAfterCommit(DomainEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private final List<Runnable> undo = new ArrayList<>();
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    for (CommitRecorder recorder : recorders()) {
+                        long position = recorder.beforeCommit(event);
+                        undo.add(() -> recorder.rolledBack(position));
+                    }
+                }
+
+                @Override
+                public void afterCommit() {
+                    publish(event);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        undo.forEach(Runnable::run);
+                    }
+                }
+            });
+        } else {
+            recorders().forEach(recorder -> recorder.beforeCommit(event));
+            publish(event);
+        }
+    }
+
+    private List<CommitRecorder> recorders() {
+        List<CommitRecorder> current = recorders;
+        if (current == null) {
+            current = recorderProvider.orderedStream().toList();
+            recorders = current;
+        }
+        return current;
+    }
+
+    // 소비자가 없을 때(시작 전, 종료 후)는 받을 곳이 없으므로 버림 (-1)
+    public long publish(DomainEvent event) {
+        if (!running) {
+            log.debug("Domain event bus is not running, dropped {}", event);
+            return -1;
+        }
+        return ringBuffer.publish(event);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        consumerProvider.orderedStream().forEach(consumer -> {
+            ConsumerWorker worker = new ConsumerWorker(consumer, ringBuffer.newCursor());
+            workers.add(worker);
+            worker.thread.start();
+        });
+        log.info("Domain event bus started with {} consumers", workers.size());
+    }
+
+    // 남은 이벤트를 처리할 시간을 준 뒤, 그래도 끝나지 않은 소비자만 interrupt
+    @Override
+    public synchronized void stop() {
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(STOP_TIMEOUT_SECONDS);
+        for (ConsumerWorker worker : workers) {
+            join(worker, deadline);
+        }
+        for (ConsumerWorker worker : workers) {
+            if (worker.thread.isAlive()) {
+                log.warn("Consumer {} did not drain within {}s, interrupting at sequence {}",
+                        worker.consumer.consumerName(), STOP_TIMEOUT_SECONDS, worker.cursor.get());
+                worker.thread.interrupt();
+            }
+            ringBuffer.removeCursor(worker.cursor);
+        }
+        workers.clear();
+    }
+
+    private static void join(ConsumerWorker worker, long deadline) {
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMs <= 0) {
+            return;
+        }
+        try {
+            worker.thread.join(remainingMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버(DEFAULT_PHASE - 2048)보다 먼저 시작하고, graceful shutdown으로 요청이 끝난 뒤에 종료되도록
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    public List<EventConsumerStats> getStats() {
+        long published = ringBuffer.getCursor();
+        return workers.stream()
+                .map(worker -> EventConsumerStats.builder()
+                        .consumer(worker.consumer.consumerName())
+                        .sequence(worker.cursor.get())
+                        .lag(published - worker.cursor.get())
+                        .processed(worker.processed.sum())
+                        .failures(worker.failures.sum())
+                        .skipped(worker.skipped.sum())
+                        .build())
+                .toList();
+    }
+
+    private class ConsumerWorker implements Runnable {
+        private final DomainEventConsumer consumer;
+        private final EventRingBuffer.Cursor cursor;
+        private final Thread thread;
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+
+        ConsumerWorker(DomainEventConsumer consumer, EventRingBuffer.Cursor cursor) {
+            this.consumer = consumer;
+            this.cursor = cursor;
+            this.thread = new Thread(this, "event-" + consumer.consumerName());
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while ((running || hasPending()) && !Thread.currentThread().isInterrupted()) {
+                List<SequencedEvent> batch = ringBuffer.poll(cursor, batchSize);
+                if (batch.isEmpty()) {
+                    if (!running) {
+                        return;
+                    }
+                    ringBuffer.await(cursor, IDLE_WAIT_NANOS);
+                    continue;
+                }
+                if (!deliver(batch)) {
+                    return;
+                }
+                ringBuffer.commit(cursor, batch.get(batch.size() - 1).sequence());
+            }
+        }
+
+        private boolean hasPending() {
+            return cursor.get() < ringBuffer.getCursor();
+        }
+
+        // 실패한 배치는 지수 백오프로 재전달, 한도를 넘으면 건너뛰어 버스가 멈추지 않게 함
+        // Error도 잡음: 스레드가 죽으면 커서가 멈춰 모든 생산자가 대기하게 됨
+        // 재시도 대기 중 interrupt(종료 시한 초과)되면 커밋하지 않고 false
+        private boolean deliver(List<SequencedEvent> batch) {
+            long backoffMs = 10;
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    consumer.onEvents(batch);
+                    processed.add(batch.size());
+                    return true;
+                } catch (Throwable e) {
+                    failures.increment();
+                    if (attempt >= maxAttempts) {
+                        skipped.add(batch.size());
+                        log.error("Consumer {} gave up on events {}..{}", consumer.consumerName(),
+                                batch.get(0).sequence(), batch.get(batch.size() - 1).sequence(), e);
+                        return true;
+                    }
+                    log.warn("Consumer {} failed (attempt {}), retrying", consumer.consumerName(), attempt, e);
+                    try {
+                        Thread.sleep(backoffMs);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        log.warn("Consumer {} interrupted while retrying events {}..{}", consumer.consumerName(),
+                                batch.get(0).sequence(), batch.get(batch.size() - 1).sequence());
+                        return false;
+                    }
+                    backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+                }
+            }
+        }
+    }
+}
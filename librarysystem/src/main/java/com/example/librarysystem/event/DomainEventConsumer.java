@@ -0,0 +1,16 @@
+package com.example.librarysystem.event;
+
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+// 버스의 모든 이벤트를 자기 속도로 배치 단위 처리하는 독립 소비자
+// 예외를 던지면 같은 배치가 재전달되므로 처리는 멱등이어야 함 (at-least-once)
+public interface DomainEventConsumer {
+
+    default String consumerName() {
+        return ClassUtils.getUserClass(getClass()).getSimpleName();
+    }
+
+    void onEvents(List<SequencedEvent> batch) throws Exception;
+}
@@ -0,0 +1,128 @@
+package com.example.librarysystem.event;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+// 다중 생산자 / 다중 소비자 링 버퍼
+// 소비자마다 자신의 처리 순번을 가지며, 가장 느린 소비자가 한 바퀴 뒤처지면 생산자가 대기 (backpressure)
+public class EventRingBuffer {
+
+    private final int mask;
+    private final AtomicReferenceArray<SequencedEvent> entries;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final List<Cursor> cursors = new CopyOnWriteArrayList<>();
+
+    public EventRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        this.mask = capacity - 1;
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    // 소비자 위치. 등록 시점 이후에 발행된 이벤트부터 받음
+    public static class Cursor {
+        private final AtomicLong sequence;
+        private volatile Thread waiter;
+
+        private Cursor(long sequence) {
+            this.sequence = new AtomicLong(sequence);
+        }
+
+        public long get() {
+            return sequence.get();
+        }
+    }
+
+    public Cursor newCursor() {
+        Cursor cursor = new Cursor(claimed.get());
+        cursors.add(cursor);
+        return cursor;
+    }
+
+    // 멈춘 소비자의 커서를 빼지 않으면 버퍼가 한 바퀴 돈 뒤 생산자가 계속 대기함
+    public void removeCursor(Cursor cursor) {
+        cursors.remove(cursor);
+        LockSupport.unpark(cursor.waiter);
+    }
+
+    public long publish(DomainEvent event) {
+        long sequence = claimed.incrementAndGet();
+        long wrapPoint = sequence - entries.length();
+        while (wrapPoint > minimumCursor(sequence)) {
+            LockSupport.parkNanos(1_000);
+        }
+
+        int index = (int) (sequence & mask);
+        entries.set(index, new SequencedEvent(sequence, Instant.now(), event));
+        published.set(index, sequence);
+
+        for (Cursor cursor : cursors) {
+            Thread waiter = cursor.waiter;
+            if (waiter != null) {
+                LockSupport.unpark(waiter);
+            }
+        }
+        return sequence;
+    }
+
+    // 다음 순번부터 연속으로 발행된 이벤트를 최대 maxBatch개까지 읽음 (커서는 이동하지 않음)
+    public List<SequencedEvent> poll(Cursor cursor, int maxBatch) {
+        long next = cursor.get() + 1;
+        List<SequencedEvent> batch = new ArrayList<>();
+        while (batch.size() < maxBatch) {
+            long sequence = next + batch.size();
+            int index = (int) (sequence & mask);
+            if (published.get(index) != sequence) {
+                break;
+            }
+            batch.add(entries.get(index));
+        }
+        return batch;
+    }
+
+    // 처리 완료 후 커서 이동 -> 생산자가 해당 슬롯을 재사용할 수 있음
+    public void commit(Cursor cursor, long sequence) {
+        cursor.sequence.set(sequence);
+    }
+
+    // 새 이벤트가 발행되거나 시간이 지날 때까지 대기
+    public void await(Cursor cursor, long timeoutNanos) {
+        cursor.waiter = Thread.currentThread();
+        try {
+            int index = (int) ((cursor.get() + 1) & mask);
+            if (published.get(index) != cursor.get() + 1) {
+                LockSupport.parkNanos(this, timeoutNanos);
+            }
+        } finally {
+            cursor.waiter = null;
+        }
+    }
+
+    public long getCursor() {
+        return claimed.get();
+    }
+
+    public int getCapacity() {
+        return entries.length();
+    }
+
+    private long minimumCursor(long defaultValue) {
+        long minimum = defaultValue;
+        for (Cursor cursor : cursors) {
+            minimum = Math.min(minimum, cursor.get());
+        }
+        return minimum;
+    }
+}
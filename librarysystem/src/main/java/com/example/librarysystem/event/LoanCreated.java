@@ -0,0 +1,16 @@
+package com.example.librarysystem.event;
+
+import com.example.librarysystem.domain.Loan;
+
+import java.time.LocalDateTime;
+
+public record LoanCreated(Long loanId, Long memberId, Long bookId,
+                          String title, String author, String publisher,
+                          LocalDateTime loanDate, LocalDateTime dueDate) implements DomainEvent {
+
+    public static LoanCreated of(Loan loan) {
+        return new LoanCreated(loan.getId(), loan.getMember().getId(), loan.getBook().getId(),
+                loan.getBook().getTitle(), loan.getBook().getAuthor(), loan.getBook().getPublisher(),
+                loan.getLoanDate(), loan.getDueDate());
+    }
+}
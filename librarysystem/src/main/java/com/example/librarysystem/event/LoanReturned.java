@@ -0,0 +1,14 @@
+package com.example.librarysystem.event;
+
+import com.example.librarysystem.domain.Loan;
+
+import java.time.LocalDateTime;
+
+public record LoanReturned(Long loanId, Long memberId, Long bookId,
+                           LocalDateTime returnDate) implements DomainEvent {
+
+    public static LoanReturned of(Loan loan) {
+        return new LoanReturned(loan.getId(), loan.getMember().getId(), loan.getBook().getId(),
+                loan.getReturnDate());
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.librarysystem.event;
+
+import com.example.librarysystem.domain.Member;
+
+public record MemberChanged(Long memberId, String username, ChangeType type) implements DomainEvent {
+
+    public static MemberChanged of(Member member, ChangeType type) {
+        return new MemberChanged(member.getId(), member.getUsername(), type);
+    }
+}
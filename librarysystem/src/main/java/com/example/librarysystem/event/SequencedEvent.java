@@ -0,0 +1,7 @@
+package com.example.librarysystem.event;
+
+import java.time.Instant;
+
+// 버스가 부여한 순번과 발행 시각을 포함한 이벤트
+public record SequencedEvent(long sequence, Instant publishedAt, DomainEvent event) {
+}
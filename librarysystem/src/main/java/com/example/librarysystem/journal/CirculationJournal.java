@@ -0,0 +1,245 @@
+package com.example.librarysystem.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// 세그먼트 단위로 나뉜 메모리 매핑 append-only 저널
+//
+// 레코드 형식: [length int][crc int][sequence long][timestamp long][type byte][payload]
+// length는 payload 길이, crc는 sequence부터 payload 끝까지의 CRC32C
+// 매핑된 파일의 남은 영역은 0으로 채워져 있으므로 length 0 또는 crc 불일치를 끝으로 간주
+// 기록 후 커밋이 롤백된 레코드는 지우지 않고 ROLLED_BACK 레코드를 덧붙여 무효화 (scanCommitted가 제외)
+public class CirculationJournal implements Closeable {
+
+    // payload는 무효화할 레코드의 sequence
+    public static final byte ROLLED_BACK = -1;
+
+    static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 1;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+
+    private MappedByteBuffer active;
+    private Path activePath;
+    private long nextSequence = 1;
+    private int unforcedFrom = -1;
+
+    public CirculationJournal(Path directory, int segmentSize, FsyncPolicy fsyncPolicy) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+        Files.createDirectories(directory);
+        recover();
+    }
+
+    // 마지막 세그먼트를 열어 유효한 마지막 레코드 뒤로 쓰기 위치를 맞춤
+    private void recover() throws IOException {
+        List<Path> segments = listSegments(directory);
+        if (segments.isEmpty()) {
+            return;
+        }
+        activePath = segments.get(segments.size() - 1);
+        active = map(activePath, Math.max(segmentSize, (int) Files.size(activePath)), FileChannel.MapMode.READ_WRITE);
+
+        long lastSequence = firstSequenceOf(activePath) - 1;
+        while (true) {
+            JournalRecord record = readRecord(active);
+            if (record == null) {
+                break;
+            }
+            lastSequence = record.sequence();
+        }
+        nextSequence = lastSequence + 1;
+    }
+
+    public synchronized long append(long timestamp, byte type, byte[] payload) {
+        int recordSize = HEADER_SIZE + payload.length;
+        if (active == null || active.remaining() < recordSize + 4) {
+            roll(recordSize + 4);
+        }
+
+        long sequence = nextSequence++;
+        int start = active.position();
+
+        CRC32C crc = new CRC32C();
+        ByteBuffer body = ByteBuffer.allocate(8 + 8 + 1 + payload.length)
+                .putLong(sequence)
+                .putLong(timestamp)
+                .put(type)
+                .put(payload);
+        body.flip();
+        crc.update(body.duplicate());
+
+        // length를 마지막에 기록해 중간에 멈춘 레코드가 유효하게 읽히지 않도록 함
+        active.position(start + 4);
+        active.putInt((int) crc.getValue());
+        active.put(body);
+        active.putInt(start, payload.length);
+
+        if (fsyncPolicy == FsyncPolicy.EVERY_RECORD) {
+            active.force(start, recordSize);
+        } else if (unforcedFrom < 0) {
+            unforcedFrom = start;
+        }
+        return sequence;
+    }
+
+    public long markRolledBack(long timestamp, long sequence) {
+        return append(timestamp, ROLLED_BACK, ByteBuffer.allocate(8).putLong(sequence).array());
+    }
+
+    // INTERVAL 정책에서 주기적으로 호출
+    public synchronized void flush() {
+        if (active != null && unforcedFrom >= 0) {
+            active.force(unforcedFrom, active.position() - unforcedFrom);
+            unforcedFrom = -1;
+        }
+    }
+
+    private void roll(int minimumSize) {
+        flush();
+        try {
+            activePath = directory.resolve(segmentName(nextSequence));
+            active = map(activePath, Math.max(segmentSize, minimumSize), FileChannel.MapMode.READ_WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized long getNextSequence() {
+        return nextSequence;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (active != null) {
+            active.force();
+        }
+        active = null;
+    }
+
+    // 시각 범위 [from, to)의 레코드를 순서대로 전달
+    // 다음 세그먼트의 첫 레코드가 from보다 이르면 현재 세그먼트 전체를 건너뜀
+    public static void scan(Path directory, long from, long to, Consumer<JournalRecord> consumer) throws IOException {
+        List<Path> segments = listSegments(directory);
+        for (int i = 0; i < segments.size(); i++) {
+            if (i + 1 < segments.size()) {
+                Long nextFirst = firstTimestampOf(segments.get(i + 1));
+                if (nextFirst != null && nextFirst < from) {
+                    continue;
+                }
+            }
+
+            Path segment = segments.get(i);
+            MappedByteBuffer buffer = map(segment, (int) Files.size(segment), FileChannel.MapMode.READ_ONLY);
+            JournalRecord record;
+            while ((record = readRecord(buffer)) != null) {
+                if (record.timestamp() >= from && record.timestamp() < to) {
+                    consumer.accept(record);
+                }
+            }
+        }
+    }
+
+    // scan과 같지만 ROLLED_BACK 레코드와 그 대상 레코드는 제외
+    // 무효화 표시는 대상보다 뒤에 기록되므로 from 이후 전체에서 표시를 먼저 모음 (롤백은 드물어 집합이 작음)
+    public static void scanCommitted(Path directory, long from, long to, Consumer<JournalRecord> consumer) throws IOException {
+        Set<Long> rolledBack = new HashSet<>();
+        scan(directory, from, Long.MAX_VALUE, record -> {
+            if (record.type() == ROLLED_BACK) {
+                rolledBack.add(ByteBuffer.wrap(record.payload()).getLong());
+            }
+        });
+        scan(directory, from, to, record -> {
+            if (record.type() != ROLLED_BACK && !rolledBack.contains(record.sequence())) {
+                consumer.accept(record);
+            }
+        });
+    }
+
+    // 현재 위치에서 레코드 하나를 읽음. 끝이거나 손상된 경우 위치를 되돌리고 null
+    static JournalRecord readRecord(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_SIZE) {
+            return null;
+        }
+        int length = buffer.getInt();
+        if (length <= 0 || length > buffer.remaining() - (HEADER_SIZE - 4)) {
+            buffer.position(start);
+            return null;
+        }
+        int storedCrc = buffer.getInt();
+
+        ByteBuffer body = buffer.slice(buffer.position(), 8 + 8 + 1 + length);
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+        if ((int) crc.getValue() != storedCrc) {
+            buffer.position(start);
+            return null;
+        }
+
+        long sequence = buffer.getLong();
+        long timestamp = buffer.getLong();
+        byte type = buffer.get();
+        byte[] payload = new byte[length];
+        buffer.get(payload);
+        return new JournalRecord(sequence, timestamp, type, payload);
+    }
+
+    private static Long firstTimestampOf(Path segment) throws IOException {
+        MappedByteBuffer buffer = map(segment, Math.min((int) Files.size(segment), 64 * 1024), FileChannel.MapMode.READ_ONLY);
+        if (buffer.remaining() < HEADER_SIZE) {
+            return null;
+        }
+        return buffer.getInt(0) > 0 ? buffer.getLong(4 + 4 + 8) : null;
+    }
+
+    static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = new ArrayList<>(files
+                    .filter(p -> p.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .toList());
+            segments.sort(null);
+            return segments;
+        }
+    }
+
+    private static long firstSequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static String segmentName(long firstSequence) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX);
+    }
+
+    private static MappedByteBuffer map(Path path, int size, FileChannel.MapMode mode) throws IOException {
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+                ? new StandardOpenOption[]{StandardOpenOption.READ}
+                : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE};
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            return channel.map(mode, 0, size);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.librarysystem.journal;
+
+import com.example.librarysystem.config.JournalProperties;
+import com.example.librarysystem.dto.JournalEntryDto;
+import com.example.librarysystem.event.CommitRecorder;
+import com.example.librarysystem.event.DomainEvent;
+import com.example.librarysystem.event.DomainEventConsumer;
+import com.example.librarysystem.event.SequencedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// 커밋된 대출/반납/도서/회원 변경을 저널에 기록하고, 기록된 이벤트를 다시 흘려보내는 replay API 제공
+//
+// 커밋 직전에 커밋하는 스레드에서 기록하므로(write-ahead) 커밋된 변경은 저널에 빠지지 않음
+// 기록이 실패하면 트랜잭션이 롤백되고, 기록 뒤 커밋이 롤백되면 ROLLED_BACK 레코드로 무효화
+// 기록 후 커밋 전에 프로세스가 죽으면 커밋되지 않은 변경이 남을 수 있음 (빠지지는 않음)
+// 디스크까지의 보장은 fsync-policy에 따름: EVERY_RECORD는 커밋 전에 fsync, INTERVAL/NONE은 프로세스 종료에는 안전하지만 OS 장애 시 마지막 구간을 잃을 수 있음
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "journal.enabled", havingValue = "true", matchIfMissing = true)
+public class CirculationJournalRecorder implements CommitRecorder {
+
+    private static final int REPLAY_BATCH_SIZE = 512;
+
+    private final JournalProperties properties;
+    private final JournalEventCodec codec;
+    private CirculationJournal journal;
+
+    public CirculationJournalRecorder(JournalProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.codec = new JournalEventCodec(objectMapper);
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        journal = new CirculationJournal(directory(), properties.getSegmentSize(), properties.getFsyncPolicy());
+        log.info("Circulation journal opened at {} (next sequence {})", directory(), journal.getNextSequence());
+    }
+
+    @PreDestroy
+    public void close() {
+        journal.close();
+    }
+
+    @Override
+    public long beforeCommit(DomainEvent event) {
+        return journal.append(System.currentTimeMillis(), codec.typeOf(event), codec.encode(event));
+    }
+
+    @Override
+    public void rolledBack(long position) {
+        journal.markRolledBack(System.currentTimeMillis(), position);
+    }
+
+    @Scheduled(fixedDelayString = "${journal.fsync-interval-ms:1000}")
+    public void flush() {
+        if (properties.getFsyncPolicy() == FsyncPolicy.INTERVAL) {
+            journal.flush();
+        }
+    }
+
+    // 시각 범위 [from, to)의 이벤트를 기록 순서대로 target에 전달해 파생 상태를 재구성
+    // 순번은 저널 순번, 시각은 커밋 직전 기록 시각
+    public long replay(Instant from, Instant to, DomainEventConsumer target) throws Exception {
+        List<SequencedEvent> batch = new ArrayList<>(REPLAY_BATCH_SIZE);
+        long[] replayed = {0};
+        Exception[] failure = {null};
+
+        CirculationJournal.scanCommitted(directory(), from.toEpochMilli(), to.toEpochMilli(), record -> {
+            if (failure[0] != null) {
+                return;
+            }
+            batch.add(new SequencedEvent(record.sequence(), Instant.ofEpochMilli(record.timestamp()), codec.decode(record)));
+            if (batch.size() == REPLAY_BATCH_SIZE) {
+                failure[0] = deliver(target, batch, replayed);
+            }
+        });
+        if (failure[0] == null && !batch.isEmpty()) {
+            failure[0] = deliver(target, batch, replayed);
+        }
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        return replayed[0];
+    }
+
+    // 관리자 조회용 시각 범위 스캔
+    public List<JournalEntryDto> scan(Instant from, Instant to, int limit) throws IOException {
+        List<JournalEntryDto> entries = new ArrayList<>();
+        CirculationJournal.scanCommitted(directory(), from.toEpochMilli(), to.toEpochMilli(), record -> {
+            if (entries.size() < limit) {
+                entries.add(JournalEntryDto.builder()
+                        .sequence(record.sequence())
+                        .timestamp(Instant.ofEpochMilli(record.timestamp()))
+                        .type(JournalEventCodec.typeName(record.type()))
+                        .event(codec.decode(record))
+                        .build());
+            }
+        });
+        return entries;
+    }
+
+    private Exception deliver(DomainEventConsumer target, List<SequencedEvent> batch, long[] replayed) {
+        try {
+            target.onEvents(List.copyOf(batch));
+            replayed[0] += batch.size();
+            batch.clear();
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    private Path directory() {
+        return Paths.get(properties.getDirectory());
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.librarysystem.journal;
+
+public enum FsyncPolicy {
+    EVERY_RECORD,   // 레코드마다 디스크에 강제 기록
+    INTERVAL,       // 주기적으로 강제 기록
+    NONE;           // OS 페이지 캐시에 맡김
+}
@@ -0,0 +1,63 @@
+package com.example.librarysystem.journal;
+
+import com.example.librarysystem.event.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// 도메인 이벤트 <-> 저널 레코드 (type 바이트 + JSON payload) 변환
+public class JournalEventCodec {
+
+    public static final byte LOAN_CREATED = 1;
+    public static final byte LOAN_RETURNED = 2;
+    public static final byte BOOK_CHANGED = 3;
+    public static final byte MEMBER_CHANGED = 4;
+
+    private final ObjectMapper objectMapper;
+
+    public JournalEventCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public byte typeOf(DomainEvent event) {
+        if (event instanceof LoanCreated) {
+            return LOAN_CREATED;
+        } else if (event instanceof LoanReturned) {
+            return LOAN_RETURNED;
+        } else if (event instanceof BookChanged) {
+            return BOOK_CHANGED;
+        }
+        return MEMBER_CHANGED;
+    }
+
+    public byte[] encode(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public DomainEvent decode(JournalRecord record) {
+        try {
+            return objectMapper.readValue(record.payload(), classOf(record.type()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static String typeName(byte type) {
+        return classOf(type).getSimpleName();
+    }
+
+    private static Class<? extends DomainEvent> classOf(byte type) {
+        return switch (type) {
+            case LOAN_CREATED -> LoanCreated.class;
+            case LOAN_RETURNED -> LoanReturned.class;
+            case BOOK_CHANGED -> BookChanged.class;
+            case MEMBER_CHANGED -> MemberChanged.class;
+            default -> throw new IllegalArgumentException("Unknown journal record type: " + type);
+        };
+    }
+}
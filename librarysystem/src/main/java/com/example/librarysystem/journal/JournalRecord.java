@@ -0,0 +1,5 @@
+package com.example.librarysystem.journal;
+
+// 저널에 기록된 레코드 한 건
+public record JournalRecord(long sequence, long timestamp, byte type, byte[] payload) {
+}
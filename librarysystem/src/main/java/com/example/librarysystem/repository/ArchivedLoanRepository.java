@@ -0,0 +1,30 @@
+package com.example.librarysystem.repository;
+
+import com.example.librarysystem.domain.ArchivedLoan;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ArchivedLoanRepository extends JpaRepository<ArchivedLoan, Long> {
+
+    @Query("SELECT a FROM ArchivedLoan a JOIN FETCH a.member JOIN FETCH a.book WHERE a.book.id = :bookId ORDER BY a.loanDate DESC")
+    List<ArchivedLoan> findByBookIdOrderByLoanDateDesc(@Param("bookId") Long bookId);
+
+    @Query("SELECT a FROM ArchivedLoan a JOIN FETCH a.member JOIN FETCH a.book WHERE a.member.id = :userId ORDER BY a.loanDate DESC")
+    List<ArchivedLoan> findAllByMemberIdOrderByLoanDateDesc(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(a) FROM ArchivedLoan a WHERE a.member.id = :userId")
+    long countByMemberId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedLoan a WHERE a.book.id IN :bookIds")
+    int deleteByBookIdIn(@Param("bookIds") Collection<Long> bookIds);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedLoan a WHERE a.member.id IN :memberIds")
+    int deleteByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+}
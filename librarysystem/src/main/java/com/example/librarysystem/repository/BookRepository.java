@@ -2,14 +2,25 @@ package com.example.librarysystem.repository;
 
 import com.example.librarysystem.domain.Book;
 import com.example.librarysystem.domain.enums.BookStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface BookRepository extends JpaRepository<Book, Long> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
+public interface BookRepository extends JpaRepository<Book, Long>, BookRepositoryCustom {
+
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     @Query("SELECT b FROM Book b WHERE " +
             "(:title IS NULL OR LOWER(b.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
             "(:author IS NULL OR LOWER(b.author) LIKE LOWER(CONCAT('%', :author, '%'))) AND " +
@@ -18,4 +29,64 @@ public interface BookRepository extends JpaRepository<Book, Long> {
                                     @Param("author") String author,
                                     @Param("publisher") String publisher,
                                     Pageable pageable);
-}
\ No newline at end of file
+
+    @Query("SELECT b.id FROM Book b WHERE " +
+            "(:title IS NULL OR LOWER(b.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
+            "(:author IS NULL OR LOWER(b.author) LIKE LOWER(CONCAT('%', :author, '%'))) AND " +
+            "(:publisher IS NULL OR LOWER(b.publisher) LIKE LOWER(CONCAT('%', :publisher, '%')))")
+    List<Long> findIdsWithFilters(@Param("title") String title,
+                                  @Param("author") String author,
+                                  @Param("publisher") String publisher);
+
+    // 정렬 순서대로 id만 조회 (대출 가능 여부로 거른 뒤 한 페이지만 도서를 읽음)
+    @Query("SELECT b.id FROM Book b WHERE " +
+            "(:title IS NULL OR LOWER(b.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
+            "(:author IS NULL OR LOWER(b.author) LIKE LOWER(CONCAT('%', :author, '%'))) AND " +
+            "(:publisher IS NULL OR LOWER(b.publisher) LIKE LOWER(CONCAT('%', :publisher, '%')))")
+    List<Long> findSortedIdsWithFilters(@Param("title") String title,
+                                        @Param("author") String author,
+                                        @Param("publisher") String publisher,
+                                        Sort sort);
+
+    @Query("SELECT b.id FROM Book b WHERE b.status = :status")
+    List<Long> findIdsByStatus(@Param("status") BookStatus status);
+
+    @Query("SELECT b.status FROM Book b WHERE b.id = :id")
+    Optional<BookStatus> findStatusById(@Param("id") Long id);
+
+    @Query("SELECT b.id, b.publisher, b.publishedAt, b.price, b.status FROM Book b")
+    List<Object[]> findAllFacetValues();
+
+    @Query("SELECT b.id, b.publisher, b.publishedAt, b.price, b.status FROM Book b WHERE b.id = :id")
+    List<Object[]> findFacetValuesById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Book b SET b.status = :status WHERE b.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") BookStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Book b WHERE b.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 타이틀의 대출 가능 사본 후보 (title_id, status 인덱스)
+    @Query("SELECT b.id FROM Book b WHERE b.bookTitle.id = :titleId AND b.status = :status ORDER BY b.id")
+    List<Long> findCopyIds(@Param("titleId") Long titleId, @Param("status") BookStatus status, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Book b WHERE b.id = :id")
+    Optional<Book> findByIdForUpdate(@Param("id") Long id);
+
+    // 사본이 속한 타이틀 id (잠그지 않음, 타이틀이 없으면 empty)
+    @Query("SELECT t.id FROM Book b LEFT JOIN b.bookTitle t WHERE b.id = :id")
+    Optional<Long> findTitleIdById(@Param("id") Long id);
+
+    // 타이틀이 아직 없는 도서 (마이그레이션 중 대출/반납과 겹치지 않도록 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Book b WHERE b.bookTitle IS NULL ORDER BY b.id")
+    List<Book> findWithoutTitleForUpdate(Pageable pageable);
+
+    // 타이틀별 사본 수와 그중 status인 사본 수 [titleId, count, matching]
+    @Query("SELECT b.bookTitle.id, COUNT(b), COALESCE(SUM(CASE WHEN b.status = :status THEN 1 ELSE 0 END), 0) " +
+            "FROM Book b WHERE b.id IN :ids AND b.bookTitle IS NOT NULL GROUP BY b.bookTitle.id")
+    List<Object[]> countCopiesByTitle(@Param("ids") Collection<Long> ids, @Param("status") BookStatus status);
+}
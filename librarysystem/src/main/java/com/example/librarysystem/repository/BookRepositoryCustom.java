@@ -0,0 +1,19 @@
+package com.example.librarysystem.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface BookRepositoryCustom {
+
+    // fields에 있는 필드만 읽는 도서 목록 (BookDto 모양의 Map)
+    Page<Map<String, Object>> findAllSparse(Collection<String> fields, Pageable pageable);
+
+    // findAllSparse 전에 fields/정렬 이름 검사 (LoanRepositoryCustom.validateSparse와 같은 이유)
+    static void validateSparse(Collection<String> fields, Sort sort) {
+        BookRepositoryCustomImpl.PROJECTION.validate(fields, sort);
+    }
+}
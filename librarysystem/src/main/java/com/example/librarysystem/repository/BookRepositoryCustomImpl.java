@@ -0,0 +1,37 @@
+package com.example.librarysystem.repository;
+
+import com.example.librarysystem.domain.Book;
+import com.example.librarysystem.domain.enums.BookStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class BookRepositoryCustomImpl implements BookRepositoryCustom {
+
+    static final SparseProjection<Book> PROJECTION = new SparseProjection<>(Book.class, fields());
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findAllSparse(Collection<String> fields, Pageable pageable) {
+        return PROJECTION.find(entityManager, fields, null, pageable);
+    }
+
+    // BookDto의 JSON 필드 이름 -> Book 속성
+    private static Map<String, SparseProjection.Field> fields() {
+        Map<String, SparseProjection.Field> fields = new LinkedHashMap<>();
+        for (String name : new String[]{"id", "title", "author", "publisher", "publishedAt", "price", "status"}) {
+            fields.put(name, SparseProjection.Field.of(name));
+        }
+        fields.put("available", SparseProjection.Field.derived(values -> values[0] == BookStatus.AVAILABLE, "status"));
+        return fields;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.librarysystem.repository;
+
+import com.example.librarysystem.domain.BookTitle;
+import com.example.librarysystem.domain.enums.BookStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface BookTitleRepository extends JpaRepository<BookTitle, Long> {
+
+    Optional<BookTitle> findByTitleKey(String titleKey);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM BookTitle t WHERE t.id = :id")
+    Optional<BookTitle> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT t FROM BookTitle t WHERE t.totalCopies > 0 AND " +
+            "(:availableOnly = false OR t.availableCopies > 0) AND " +
+            "(:title IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
+            "(:author IS NULL OR LOWER(t.author) LIKE LOWER(CONCAT('%', :author, '%'))) AND " +
+            "(:publisher IS NULL OR LOWER(t.publisher) LIKE LOWER(CONCAT('%', :publisher, '%')))")
+    Page<BookTitle> searchTitles(@Param("title") String title,
+                                 @Param("author") String author,
+                                 @Param("publisher") String publisher,
+                                 @Param("availableOnly") boolean availableOnly,
+                                 Pageable pageable);
+
+    // 남은 사본이 있을 때만 하나 차감 (1이면 성공, 0이면 남은 사본 없음)
+    @Modifying
+    @Query("UPDATE BookTitle t SET t.availableCopies = t.availableCopies - 1 WHERE t.id = :id AND t.availableCopies > 0")
+    int claimCopy(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE BookTitle t SET t.availableCopies = t.availableCopies + 1 " +
+            "WHERE t.id = :id AND t.availableCopies < t.totalCopies")
+    int releaseCopy(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE BookTitle t SET t.totalCopies = t.totalCopies + :total, t.availableCopies = t.availableCopies + :available " +
+            "WHERE t.id = :id")
+    int addCopies(@Param("id") Long id, @Param("total") int total, @Param("available") int available);
+
+    // 사본 테이블에서 다시 세어 맞춤 (마이그레이션 시)
+    @Modifying
+    @Query("UPDATE BookTitle t SET " +
+            "t.totalCopies = (SELECT COUNT(b) FROM Book b WHERE b.bookTitle.id = t.id), " +
+            "t.availableCopies = (SELECT COUNT(b) FROM Book b WHERE b.bookTitle.id = t.id AND b.status = :available) " +
+            "WHERE t.id IN :ids")
+    int recount(@Param("ids") Collection<Long> ids, @Param("available") BookStatus available);
+}
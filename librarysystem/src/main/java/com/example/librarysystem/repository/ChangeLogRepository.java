@@ -0,0 +1,27 @@
+package com.example.librarysystem.repository;
+
+import com.example.librarysystem.domain.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    // 마지막으로 본 id 이후의 기록 (PK 인덱스 범위 스캔)
+    List<ChangeLogEntry> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<ChangeLogEntry> findByIdIn(Collection<Long> ids);
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM ChangeLogEntry c")
+    long findMaxId();
+
+    @Modifying
+    @Query("DELETE FROM ChangeLogEntry c WHERE c.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,172 @@
+package com.example.librarysystem.repository;
+
+import com.example.librarysystem.changelog.ChangeLogListener;
+import com.example.librarysystem.changelog.ChangeLogWriter;
+import com.example.librarysystem.config.JwtProperties;
+import com.example.librarysystem.config.RefreshTokenStoreProperties;
+import com.example.librarysystem.domain.ChangeLogEntry;
+import com.example.librarysystem.domain.Member;
+import com.example.librarysystem.domain.enums.ChangeTarget;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "refresh-token-store.type", havingValue = "memory")
+// 토큰은 발급한 노드의 메모리에만 있으므로 여러 노드에서는 sticky session 필요
+// 로그인/토큰 갱신(save)은 DB에 쓰지 않고, 명시적 삭제(불일치, 만료, 회원 삭제)만 change_log로 다른 노드에 전파
+// (다른 노드에서 새로 발급해도 이 노드의 이전 토큰은 만료나 삭제 전까지 남음)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore, ChangeLogListener {
+
+    private static final int SNAPSHOT_MAGIC = 0x52544B53; // "RTKS"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final JwtProperties jwtProperties;
+    private final RefreshTokenStoreProperties properties;
+    private final ChangeLogWriter changeLogWriter;
+
+    // username -> 토큰 해시 (원본 토큰은 메모리/스냅샷 어디에도 남기지 않음)
+    private final Map<String, TokenEntry> tokens = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    private record TokenEntry(byte[] hash, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    @Override
+    public void save(Member member, String refreshToken) {
+        long expiresAt = System.currentTimeMillis() + Duration.ofMinutes(jwtProperties.getRefreshDuration()).toMillis();
+        tokens.put(member.getUsername(), new TokenEntry(hash(refreshToken), expiresAt));
+        dirty.set(true);
+    }
+
+    @Override
+    public boolean exists(String username) {
+        TokenEntry entry = tokens.get(username);
+        return entry != null && !entry.isExpired(System.currentTimeMillis());
+    }
+
+    @Override
+    public boolean matches(String username, String refreshToken) {
+        TokenEntry entry = tokens.get(username);
+        if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+            return false;
+        }
+        return MessageDigest.isEqual(entry.hash(), hash(refreshToken));
+    }
+
+    @Override
+    public void delete(String username) {
+        if (tokens.remove(username) != null) {
+            dirty.set(true);
+        }
+        changeLogWriter.record(ChangeTarget.TOKEN, null, username);
+    }
+
+    @Override
+    public void onRemoteChange(ChangeLogEntry entry) {
+        if (entry.getTarget() == ChangeTarget.TOKEN && tokens.remove(entry.getTargetKey()) != null) {
+            dirty.set(true);
+        }
+    }
+
+    // 시작 시 스냅샷 복원
+    @PostConstruct
+    public void restore() {
+        Path path = Paths.get(properties.getSnapshotPath());
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("Ignoring refresh token snapshot with unknown format: {}", path);
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String username = in.readUTF();
+                byte[] hash = new byte[in.readUnsignedShort()];
+                in.readFully(hash);
+                long expiresAt = in.readLong();
+                if (expiresAt > now) {
+                    tokens.put(username, new TokenEntry(hash, expiresAt));
+                }
+            }
+            log.info("Restored {} refresh tokens from {}", tokens.size(), path);
+        } catch (IOException e) {
+            log.warn("Failed to restore refresh token snapshot from {}", path, e);
+        }
+    }
+
+    // 변경이 있을 때만 주기적으로 스냅샷 기록
+    @Scheduled(fixedDelayString = "${refresh-token-store.snapshot-interval-ms:10000}")
+    public void snapshotIfDirty() {
+        if (dirty.compareAndSet(true, false)) {
+            try {
+                writeSnapshot();
+            } catch (IOException e) {
+                dirty.set(true);
+                log.warn("Failed to write refresh token snapshot", e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        snapshotIfDirty();
+    }
+
+    private void writeSnapshot() throws IOException {
+        Path path = Paths.get(properties.getSnapshotPath()).toAbsolutePath();
+        Files.createDirectories(path.getParent());
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        long now = System.currentTimeMillis();
+        tokens.entrySet().removeIf(e -> e.getValue().isExpired(now));
+        Map<String, TokenEntry> copy = Map.copyOf(tokens);
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(copy.size());
+            for (Map.Entry<String, TokenEntry> e : copy.entrySet()) {
+                out.writeUTF(e.getKey());
+                out.writeShort(e.getValue().hash().length);
+                out.write(e.getValue().hash());
+                out.writeLong(e.getValue().expiresAt());
+            }
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
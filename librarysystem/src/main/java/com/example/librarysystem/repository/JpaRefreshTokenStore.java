@@ -0,0 +1,52 @@
+package com.example.librarysystem.repository;
+
+import com.example.librarysystem.domain.Member;
+import com.example.librarysystem.domain.RefreshToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "refresh-token-store.type", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    @Transactional
+    public void save(Member member, String refreshToken) {
+        RefreshToken rtEntity = refreshTokenRepository.findByMember_Username(member.getUsername()).orElse(null);
+        if (rtEntity == null) {
+            rtEntity = RefreshToken.builder()
+                    .member(member)
+                    .refreshToken(refreshToken)
+                    .build();
+        } else {
+            rtEntity.setRefreshToken(refreshToken);
+        }
+        refreshTokenRepository.save(rtEntity);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean exists(String username) {
+        return refreshTokenRepository.findByMember_Username(username).isPresent();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean matches(String username, String refreshToken) {
+        return refreshTokenRepository.findByMember_Username(username)
+                .map(rtEntity -> rtEntity.getRefreshToken().equals(refreshToken))
+                .orElse(false);
+    }
+
+    @Override
+    @Transactional
+    public void delete(String username) {
+        refreshTokenRepository.findByMember_Username(username)
+                .ifPresent(refreshTokenRepository::delete);
+    }
+}
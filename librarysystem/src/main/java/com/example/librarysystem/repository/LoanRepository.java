@@ -3,16 +3,21 @@ package com.example.librarysystem.repository;
 import com.example.librarysystem.domain.Loan;
 import com.example.librarysystem.domain.enums.LoanStatus;
 import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface LoanRepository extends JpaRepository<Loan, Long> {
+public interface LoanRepository extends JpaRepository<Loan, Long>, LoanRepositoryCustom {
 
     @Query("SELECT l FROM Loan l JOIN FETCH l.member JOIN FETCH l.book WHERE l.member.id = :userId AND l.status = :status")
     List<Loan> findByMemberIdAndStatus(@Param("userId") Long userId, @Param("status") LoanStatus status);
@@ -23,6 +28,14 @@ public interface LoanRepository extends JpaRepository<Loan, Long> {
     @Query("SELECT l FROM Loan l JOIN FETCH l.member JOIN FETCH l.book WHERE l.dueDate < :currentDate AND l.status = :status")
     List<Loan> findOverdueLoans(@Param("currentDate") LocalDateTime currentDate, @Param("status") LoanStatus status);
 
+    // 반납 예정일이 [from, to) 에 있는 대출 (loanId, bookId, memberId, dueDate) - 그 사이에 연체로 바뀐 대출
+    @Query("SELECT l.id, l.book.id, l.member.id, l.dueDate FROM Loan l " +
+            "WHERE l.status = :status AND l.dueDate >= :from AND l.dueDate < :to ORDER BY l.dueDate, l.id")
+    List<Object[]> findBecameOverdue(@Param("status") LoanStatus status,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to,
+                                     Pageable pageable);
+
     @Query("SELECT l FROM Loan l JOIN FETCH l.member JOIN FETCH l.book WHERE l.book.id = :bookId ORDER BY l.loanDate DESC")
     List<Loan> findByBookIdOrderByLoanDateDesc(@Param("bookId") Long bookId);
 
@@ -38,4 +51,91 @@ public interface LoanRepository extends JpaRepository<Loan, Long> {
             "LOWER(l.book.author) LIKE LOWER(CONCAT('%', :query, '%'))) " +
             "ORDER BY l.loanDate DESC")
     Page<Loan> searchLoans(@Param("query") String query, Pageable pageable);
-}
\ No newline at end of file
+
+    @Query("SELECT l.id FROM Loan l WHERE l.status = :status AND l.returnDate < :cutoff ORDER BY l.id")
+    List<Long> findArchivableIds(@Param("status") LoanStatus status, @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Query("SELECT COUNT(l), MIN(l.returnDate) FROM Loan l WHERE l.status = :status AND l.returnDate < :cutoff")
+    List<Object[]> findArchiveBacklog(@Param("status") LoanStatus status, @Param("cutoff") LocalDateTime cutoff);
+
+    // 2차 캐시 전체 무효화를 피하도록 영향 받는 테이블만 지정
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "loans_archive"))
+    @Query(value = "INSERT INTO loans_archive (id, user_id, book_id, loan_date, due_date, return_date, status, archived_at) " +
+            "SELECT id, user_id, book_id, loan_date, due_date, return_date, status, CURRENT_TIMESTAMP FROM loans WHERE id IN (:ids)",
+            nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids);
+
+    // 대출 중일 때만 반납으로 바꿈 (같은 대출을 동시에 반납하면 한 쪽만 1)
+    @Modifying
+    @Query("UPDATE Loan l SET l.status = :returned WHERE l.id = :id AND l.status = :active")
+    int markReturned(@Param("id") Long id, @Param("active") LoanStatus active, @Param("returned") LoanStatus returned);
+
+    @Modifying
+    @Query("DELETE FROM Loan l WHERE l.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 회원 id 목록별 대출 중/연체 건수 [memberId, active, overdue]
+    @Query("SELECT l.member.id, COUNT(l), COALESCE(SUM(CASE WHEN l.dueDate < :now THEN 1 ELSE 0 END), 0) " +
+            "FROM Loan l WHERE l.member.id IN :memberIds AND l.status = :status GROUP BY l.member.id")
+    List<Object[]> countLoansByMemberIds(@Param("memberIds") Collection<Long> memberIds,
+                                         @Param("status") LoanStatus status,
+                                         @Param("now") LocalDateTime now);
+
+    // 회원 삭제 시 반납 처리할 도서 id
+    @Query("SELECT l.book.id FROM Loan l WHERE l.member.id IN :memberIds AND l.status = :status")
+    List<Long> findBookIdsByMemberIdsAndStatus(@Param("memberIds") Collection<Long> memberIds,
+                                               @Param("status") LoanStatus status);
+
+    @Modifying
+    @Query("DELETE FROM Loan l WHERE l.book.id IN :bookIds")
+    int deleteByBookIdIn(@Param("bookIds") Collection<Long> bookIds);
+
+    @Modifying
+    @Query("DELETE FROM Loan l WHERE l.member.id IN :memberIds")
+    int deleteByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+
+    // 반납 예정일 알림 대상 keyset 조회 [id, dueDate] (status, dueDate, id 인덱스 범위 스캔)
+    @Query("SELECT l.id, l.dueDate FROM Loan l WHERE l.status = :status AND l.dueDate <= :upper AND " +
+            "(l.dueDate > :cursorDue OR (l.dueDate = :cursorDue AND l.id > :cursorId)) " +
+            "ORDER BY l.dueDate, l.id")
+    List<Object[]> findDueSoonAfter(@Param("status") LoanStatus status,
+                                    @Param("cursorDue") LocalDateTime cursorDue,
+                                    @Param("cursorId") Long cursorId,
+                                    @Param("upper") LocalDateTime upper,
+                                    Pageable pageable);
+
+    // 알림 커서가 이미 지나간 구간에 늦게 들어온 대출
+    @Query("SELECT l.id FROM Loan l WHERE l.loanDate >= :createdSince AND l.status = :status AND " +
+            "l.dueDate > :lower AND l.dueDate <= :cursorDue AND l.id > :afterId ORDER BY l.id")
+    List<Long> findLateDueSoonIds(@Param("status") LoanStatus status,
+                                  @Param("createdSince") LocalDateTime createdSince,
+                                  @Param("lower") LocalDateTime lower,
+                                  @Param("cursorDue") LocalDateTime cursorDue,
+                                  @Param("afterId") Long afterId,
+                                  Pageable pageable);
+
+    // 현재 대출과 이관된 대출 중 가장 큰 id (이관된 대출은 원래 id를 유지)
+    @Query(value = "SELECT GREATEST(COALESCE((SELECT MAX(id) FROM loans), 0), COALESCE((SELECT MAX(id) FROM loans_archive), 0))",
+            nativeQuery = true)
+    long findMaxLoanIdIncludingArchive();
+
+    // 회원별 대출 도서 [memberId, bookId, loanId] (회원 순, 회원 안에서는 최근 대출 순)
+    @Query(value = "SELECT user_id, book_id, id FROM (" +
+            "SELECT user_id, book_id, id FROM loans WHERE id <= :maxId " +
+            "UNION ALL SELECT user_id, book_id, id FROM loans_archive WHERE id <= :maxId) t " +
+            "ORDER BY user_id, id DESC",
+            nativeQuery = true)
+    Stream<Object[]> streamMemberBooksUpTo(@Param("maxId") long maxId);
+
+    // 회원들의 maxId 이하 대출 중 회원별 최근 limit건 [memberId, bookId, loanId] (회원 순, 최근 대출 순)
+    @Query(value = "SELECT user_id, book_id, id FROM (" +
+            "SELECT user_id, book_id, id, ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY id DESC) AS rn FROM (" +
+            "SELECT user_id, book_id, id FROM loans WHERE user_id IN (:memberIds) AND id <= :maxId " +
+            "UNION ALL SELECT user_id, book_id, id FROM loans_archive WHERE user_id IN (:memberIds) AND id <= :maxId) t" +
+            ") r WHERE rn <= :limit ORDER BY user_id, id DESC",
+            nativeQuery = true)
+    List<Object[]> findRecentMemberBooks(@Param("memberIds") Collection<Long> memberIds,
+                                         @Param("maxId") long maxId,
+                                         @Param("limit") int limit);
+}
@@ -0,0 +1,24 @@
+package com.example.librarysystem.repository;
+
+import com.example.librarysystem.domain.enums.LoanStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface LoanRepositoryCustom {
+
+    // fields에 있는 필드만 읽는 상태별 대출 목록 (LoanDto 모양의 중첩 Map)
+    Page<Map<String, Object>> findSparseByStatus(LoanStatus status, Collection<String> fields, Pageable pageable);
+
+    // searchLoans와 같은 조건으로 fields에 있는 필드만 읽음
+    Page<Map<String, Object>> searchSparse(String query, Collection<String> fields, Pageable pageable);
+
+    // 저장소 프록시는 IllegalArgumentException을 InvalidDataAccessApiUsageException으로 바꾸므로
+    // 호출 전에 서비스에서 검사함 (static이라 프록시를 거치지 않음)
+    static void validateSparse(Collection<String> fields, Sort sort) {
+        LoanRepositoryCustomImpl.PROJECTION.validate(fields, sort);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.librarysystem.repository;
+
+import com.example.librarysystem.domain.Loan;
+import com.example.librarysystem.domain.enums.BookStatus;
+import com.example.librarysystem.domain.enums.LoanStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class LoanRepositoryCustomImpl implements LoanRepositoryCustom {
+
+    static final SparseProjection<Loan> PROJECTION = new SparseProjection<>(Loan.class, fields());
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findSparseByStatus(LoanStatus status, Collection<String> fields, Pageable pageable) {
+        return PROJECTION.find(entityManager, fields,
+                (cb, path) -> cb.equal(path.apply("status"), status), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> searchSparse(String query, Collection<String> fields, Pageable pageable) {
+        String pattern = "%" + query.toLowerCase() + "%";
+        return PROJECTION.find(entityManager, fields, (cb, path) -> cb.or(
+                cb.like(cb.lower(string(path.apply("member.username"))), pattern),
+                cb.like(cb.lower(string(path.apply("book.title"))), pattern),
+                cb.like(cb.lower(string(path.apply("book.author"))), pattern)), pageable);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Expression<String> string(Expression<?> expression) {
+        return (Expression<String>) expression;
+    }
+
+    // LoanDto의 JSON 필드 이름 -> Loan 속성 경로 (overdue, book.available은 Loan/Book의 계산과 같은 기준)
+    private static Map<String, SparseProjection.Field> fields() {
+        Map<String, SparseProjection.Field> fields = new LinkedHashMap<>();
+        fields.put("id", SparseProjection.Field.of("id"));
+        fields.put("loanDate", SparseProjection.Field.of("loanDate"));
+        fields.put("dueDate", SparseProjection.Field.of("dueDate"));
+        fields.put("returnDate", SparseProjection.Field.of("returnDate"));
+        fields.put("status", SparseProjection.Field.of("status"));
+        fields.put("overdue", SparseProjection.Field.derived(values -> values[0] != LoanStatus.RETURNED
+                && values[1] != null && LocalDateTime.now().isAfter((LocalDateTime) values[1]), "status", "dueDate"));
+        fields.put("user.id", SparseProjection.Field.of("member.id"));
+        fields.put("user.username", SparseProjection.Field.of("member.username"));
+        fields.put("user.contact", SparseProjection.Field.of("member.contact"));
+        fields.put("user.memo", SparseProjection.Field.of("member.memo"));
+        fields.put("user.userType", SparseProjection.Field.of("member.userType"));
+        fields.put("book.id", SparseProjection.Field.of("book.id"));
+        fields.put("book.title", SparseProjection.Field.of("book.title"));
+        fields.put("book.author", SparseProjection.Field.of("book.author"));
+        fields.put("book.publisher", SparseProjection.Field.of("book.publisher"));
+        fields.put("book.publishedAt", SparseProjection.Field.of("book.publishedAt"));
+        fields.put("book.price", SparseProjection.Field.of("book.price"));
+        fields.put("book.status", SparseProjection.Field.of("book.status"));
+        fields.put("book.available", SparseProjection.Field.derived(values -> values[0] == BookStatus.AVAILABLE, "book.status"));
+        return fields;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.librarysystem.repository;
+
+import com.example.librarysystem.domain.enums.UserType;
+
+// 회원별 대출 건수 집계 결과 projection
+public interface MemberLoanSummaryView {
+    Long getId();
+
+    String getUsername();
+
+    String getContact();
+
+    String getMemo();
+
+    UserType getUserType();
+
+    long getActiveLoans();
+
+    long getOverdueLoans();
+}
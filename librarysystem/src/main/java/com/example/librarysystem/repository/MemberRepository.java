@@ -1,13 +1,46 @@
 package com.example.librarysystem.repository;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import com.example.librarysystem.domain.Member;
+import com.example.librarysystem.domain.enums.LoanStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
-
-public interface MemberRepository extends JpaRepository<Member, Long> {
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
-    Optional<Member> findByUsername(String username);
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     boolean existsByUsername(String username);
+
+    // 대출 건수로 정렬할 때 사용 (집계 결과로 페이지를 나눔, 정렬 키는 select 별칭)
+    @Query(value = "SELECT m.id AS id, m.username AS username, m.contact AS contact, m.memo AS memo, m.userType AS userType, " +
+            "COUNT(l.id) AS activeLoans, " +
+            "COALESCE(SUM(CASE WHEN l.dueDate < :now THEN 1 ELSE 0 END), 0) AS overdueLoans " +
+            "FROM Member m LEFT JOIN m.loans l ON l.status = :status " +
+            "GROUP BY m.id, m.username, m.contact, m.memo, m.userType",
+            countQuery = "SELECT COUNT(m) FROM Member m")
+    Page<MemberLoanSummaryView> findAllWithLoanCounts(@Param("status") LoanStatus status,
+                                                      @Param("now") LocalDateTime now,
+                                                      Pageable pageable);
+
+    // [id, username]
+    @Query("SELECT m.id, m.username FROM Member m WHERE m.id IN :ids")
+    List<Object[]> findUsernamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // users.refresh_token_id와 refresh_tokens.user_id가 서로를 참조하므로 토큰 삭제 전에 먼저 끊음
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Member m SET m.refreshToken = null WHERE m.id IN :ids")
+    int clearRefreshTokenByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Member m WHERE m.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
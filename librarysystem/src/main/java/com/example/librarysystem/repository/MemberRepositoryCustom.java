@@ -0,0 +1,11 @@
+package com.example.librarysystem.repository;
+
+import com.example.librarysystem.domain.Member;
+
+import java.util.Optional;
+
+public interface MemberRepositoryCustom {
+
+    // natural-id 캐시를 거치는 사용자명 조회
+    Optional<Member> findByUsername(String username);
+}
@@ -0,0 +1,23 @@
+package com.example.librarysystem.repository;
+
+import com.example.librarysystem.domain.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Member> findByUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Member.class)
+                .loadOptional(username);
+    }
+}
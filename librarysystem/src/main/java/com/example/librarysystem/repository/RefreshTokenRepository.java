@@ -2,9 +2,17 @@ package com.example.librarysystem.repository;
 
 import com.example.librarysystem.domain.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     Optional<RefreshToken> findByMember_Username(String username);
-}
\ No newline at end of file
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.member.id IN :memberIds")
+    int deleteByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+}
@@ -0,0 +1,18 @@
+package com.example.librarysystem.repository;
+
+import com.example.librarysystem.domain.Member;
+
+public interface RefreshTokenStore {
+
+    // 사용자의 Refresh Token 저장 (기존 토큰은 교체)
+    void save(Member member, String refreshToken);
+
+    // 사용자의 Refresh Token 존재 여부
+    boolean exists(String username);
+
+    // 저장된 Refresh Token과 일치 여부
+    boolean matches(String username, String refreshToken);
+
+    // 사용자의 Refresh Token 삭제
+    void delete(String username);
+}
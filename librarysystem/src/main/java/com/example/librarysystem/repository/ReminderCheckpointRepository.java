@@ -0,0 +1,7 @@
+package com.example.librarysystem.repository;
+
+import com.example.librarysystem.domain.ReminderCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReminderCheckpointRepository extends JpaRepository<ReminderCheckpoint, Integer> {
+}
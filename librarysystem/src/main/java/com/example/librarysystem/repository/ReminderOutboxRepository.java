@@ -0,0 +1,41 @@
+package com.example.librarysystem.repository;
+
+import com.example.librarysystem.domain.ReminderOutbox;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReminderOutboxRepository extends JpaRepository<ReminderOutbox, Long> {
+
+    // 이미 같은 기준 시간으로 기록된 대출은 건너뜀 (동시에 기록되면 unique 제약으로 한쪽이 실패)
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "reminder_outbox"))
+    @Query(value = "INSERT INTO reminder_outbox (loan_id, user_id, username, book_title, threshold_hours, due_date, created_at) " +
+            "SELECT l.id, l.user_id, u.username, b.title, :thresholdHours, l.due_date, CURRENT_TIMESTAMP " +
+            "FROM loans l JOIN users u ON u.user_id = l.user_id JOIN books b ON b.id = l.book_id " +
+            "WHERE l.id IN (:loanIds) AND NOT EXISTS " +
+            "(SELECT 1 FROM reminder_outbox o WHERE o.loan_id = l.id AND o.threshold_hours = :thresholdHours)",
+            nativeQuery = true)
+    int insertForLoans(@Param("loanIds") Collection<Long> loanIds, @Param("thresholdHours") int thresholdHours);
+
+    @Query("SELECT o FROM ReminderOutbox o WHERE o.dispatchedAt IS NULL ORDER BY o.id")
+    List<ReminderOutbox> findPending(Pageable pageable);
+
+    long countByDispatchedAtIsNull();
+
+    @Modifying
+    @Query("UPDATE ReminderOutbox o SET o.dispatchedAt = :dispatchedAt WHERE o.id IN :ids")
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("dispatchedAt") LocalDateTime dispatchedAt);
+
+    @Modifying
+    @Query("DELETE FROM ReminderOutbox o WHERE o.dispatchedAt < :cutoff")
+    int deleteDispatchedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
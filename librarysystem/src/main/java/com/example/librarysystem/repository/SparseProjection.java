@@ -0,0 +1,197 @@
+package com.example.librarysystem.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.*;
+import java.util.function.Function;
+
+// fields=에 있는 필드만 SELECT 하고(필요한 연관만 조인), DTO JSON과 같은 모양의 중첩 Map으로 반환
+//
+// 필드 이름은 응답의 점 표기("user.username"), 연관 이름만 주면("book") 그 아래 필드 전체
+// 행 식별을 위해 id는 항상 포함
+final class SparseProjection<T> {
+
+    // 응답 필드 하나: 읽을 속성 경로와, 읽은 값으로 응답 값을 만드는 함수
+    record Field(List<String> paths, Function<Object[], Object> value) {
+
+        static Field of(String path) {
+            return new Field(List.of(path), values -> values[0]);
+        }
+
+        static Field derived(Function<Object[], Object> value, String... paths) {
+            return new Field(List.of(paths), value);
+        }
+    }
+
+    // 속성 경로로 Path를 얻어 조건을 만듦 (필요한 조인은 그때 생성)
+    @FunctionalInterface
+    interface Filter {
+        Predicate toPredicate(CriteriaBuilder cb, Function<String, Path<?>> path);
+    }
+
+    private final Class<T> entityClass;
+    private final Map<String, Field> fields;
+
+    SparseProjection(Class<T> entityClass, Map<String, Field> fields) {
+        this.entityClass = entityClass;
+        this.fields = fields;
+    }
+
+    Page<Map<String, Object>> find(EntityManager entityManager, Collection<String> requested, Filter filter, Pageable pageable) {
+        List<String> names = resolve(requested);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        PathResolver paths = new PathResolver(query.from(entityClass));
+
+        // 여러 필드가 같은 속성을 쓰면 한 번만 SELECT
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        for (String name : names) {
+            for (String path : fields.get(name).paths()) {
+                columns.putIfAbsent(path, columns.size());
+            }
+        }
+        List<Selection<?>> selections = new ArrayList<>();
+        columns.keySet().forEach(path -> selections.add(paths.get(path)));
+        query.multiselect(selections);
+        if (filter != null) {
+            query.where(filter.toPredicate(cb, paths::get));
+        }
+        query.orderBy(orders(cb, paths, pageable.getSort()));
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset());
+            typed.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Map<String, Object>> content = new ArrayList<>();
+        for (Tuple tuple : typed.getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String name : names) {
+                Field field = fields.get(name);
+                Object[] values = new Object[field.paths().size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = tuple.get(columns.get(field.paths().get(i)));
+                }
+                put(row, name, field.value().apply(values));
+            }
+            content.add(row);
+        }
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entityManager, filter));
+    }
+
+    // 조회 전에 fields와 정렬 이름만 검사 (알 수 없으면 IllegalArgumentException)
+    void validate(Collection<String> requested, Sort sort) {
+        resolve(requested);
+        for (Sort.Order order : sort) {
+            sortField(order);
+        }
+    }
+
+    private long count(EntityManager entityManager, Filter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityClass);
+        query.select(cb.count(root));
+        if (filter != null) {
+            query.where(filter.toPredicate(cb, new PathResolver(root)::get));
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    // 요청 순서를 유지하고, 알 수 없는 필드면 IllegalArgumentException
+    private List<String> resolve(Collection<String> requested) {
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        for (String raw : requested) {
+            String name = raw.strip();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (fields.containsKey(name)) {
+                names.add(name);
+                continue;
+            }
+            List<String> nested = fields.keySet().stream().filter(key -> key.startsWith(name + ".")).toList();
+            if (nested.isEmpty()) {
+                throw new IllegalArgumentException("Unknown field: " + name);
+            }
+            names.addAll(nested);
+        }
+        return new ArrayList<>(names);
+    }
+
+    // 정렬도 응답 필드 이름으로 받음 (계산 필드는 정렬 불가)
+    private List<Order> orders(CriteriaBuilder cb, PathResolver paths, Sort sort) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<?> path = paths.get(sortField(order).paths().get(0));
+            orders.add(order.isAscending() ? cb.asc(path) : cb.desc(path));
+        }
+        return orders;
+    }
+
+    private Field sortField(Sort.Order order) {
+        Field field = fields.get(order.getProperty());
+        if (field == null || field.paths().size() != 1) {
+            throw new IllegalArgumentException("Unsupported sort field: " + order.getProperty());
+        }
+        return field;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void put(Map<String, Object> row, String name, Object value) {
+        Map<String, Object> target = row;
+        String[] parts = name.split("\\.");
+        for (int i = 0; i < parts.length - 1; i++) {
+            target = (Map<String, Object>) target.computeIfAbsent(parts[i], key -> new LinkedHashMap<String, Object>());
+        }
+        target.put(parts[parts.length - 1], value);
+    }
+
+    // "member.username" 같은 속성 경로를 Path로 (연관마다 LEFT JOIN 하나를 재사용)
+    private static final class PathResolver {
+
+        private final Root<?> root;
+        private final Map<String, Join<?, ?>> joins = new HashMap<>();
+
+        PathResolver(Root<?> root) {
+            this.root = root;
+        }
+
+        Path<?> get(String path) {
+            int dot = path.lastIndexOf('.');
+            if (dot < 0) {
+                return root.get(path);
+            }
+            return join(path.substring(0, dot)).get(path.substring(dot + 1));
+        }
+
+        private From<?, ?> join(String association) {
+            Join<?, ?> join = joins.get(association);
+            if (join == null) {
+                int dot = association.lastIndexOf('.');
+                From<?, ?> parent = dot < 0 ? root : join(association.substring(0, dot));
+                join = parent.join(association.substring(dot + 1), JoinType.LEFT);
+                joins.put(association, join);
+            }
+            return join;
+        }
+    }
+}
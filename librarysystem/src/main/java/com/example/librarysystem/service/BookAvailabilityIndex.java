@@ -0,0 +1,120 @@
+package com.example.librarysystem.service;
+
+import com.example.librarysystem.changelog.ChangeLogListener;
+import com.example.librarysystem.domain.ChangeLogEntry;
+import com.example.librarysystem.domain.enums.BookStatus;
+import com.example.librarysystem.domain.enums.ChangeTarget;
+import com.example.librarysystem.repository.BookRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 대출 가능한 도서 id 비트셋 (도서 행을 읽지 않고 대출 가능 여부 확인)
+//
+// 대출/반납/등록/삭제 트랜잭션이 커밋된 직후 같은 스레드에서 바로 반영하고, 다른 노드의 변경은 change_log로 반영
+// 재구성 중에 들어온 변경은 새 비트셋에도 적용하고, DB 스냅샷 값으로 덮어쓰지 않음
+@Slf4j
+@Component
+public class BookAvailabilityIndex implements ChangeLogListener {
+
+    private final BookRepository bookRepository;
+    // 읽기 전용이 아닌 트랜잭션으로 열어 replica 지연과 무관하게 primary를 읽음
+    private final TransactionTemplate transactionTemplate;
+
+    private final Object updateLock = new Object();
+    private volatile ConcurrentBitSet available = new ConcurrentBitSet(1024);
+    private ConcurrentBitSet building;
+    private final Set<Long> touchedWhileBuilding = new HashSet<>();
+    private volatile boolean ready;
+
+    public BookAvailabilityIndex(BookRepository bookRepository, PlatformTransactionManager transactionManager) {
+        this.bookRepository = bookRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long maxId = 0;
+        ConcurrentBitSet next = new ConcurrentBitSet(1024);
+        synchronized (updateLock) {
+            building = next;
+            touchedWhileBuilding.clear();
+        }
+
+        List<Long> ids = transactionTemplate.execute(status -> bookRepository.findIdsByStatus(BookStatus.AVAILABLE));
+        synchronized (updateLock) {
+            for (Long id : ids) {
+                if (!touchedWhileBuilding.contains(id)) {
+                    next.set(id, true);
+                }
+                maxId = Math.max(maxId, id);
+            }
+            available = next;
+            building = null;
+            touchedWhileBuilding.clear();
+        }
+        ready = true;
+        log.info("Availability index built with {} available books (max id {})", next.cardinality(), maxId);
+    }
+
+    // 재구성 전에는 알 수 없으므로 대출 가능으로 보고 DB 확인에 맡김
+    public boolean isAvailable(long bookId) {
+        return !ready || available.get(bookId);
+    }
+
+    // 텍스트 검색 결과 중 대출 가능한 id만 (순서 유지)
+    public List<Long> retainAvailable(List<Long> bookIds) {
+        if (!ready) {
+            return bookIds;
+        }
+        ConcurrentBitSet current = available;
+        return bookIds.stream().filter(current::get).toList();
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 반영 (롤백되면 반영하지 않음)
+    public void setAfterCommit(long bookId, boolean isAvailable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    set(bookId, isAvailable);
+                }
+            });
+        } else {
+            set(bookId, isAvailable);
+        }
+    }
+
+    private void set(long bookId, boolean isAvailable) {
+        synchronized (updateLock) {
+            available.set(bookId, isAvailable);
+            if (building != null) {
+                building.set(bookId, isAvailable);
+                touchedWhileBuilding.add(bookId);
+            }
+        }
+    }
+
+    // 다른 노드에서 도서가 바뀐 경우 현재 상태를 다시 읽음 (id가 없으면 일괄 변경이므로 전체 재구성)
+    @Override
+    public void onRemoteChange(ChangeLogEntry entry) {
+        if (entry.getTarget() != ChangeTarget.BOOK) {
+            return;
+        }
+        if (entry.getTargetId() == null) {
+            rebuild();
+            return;
+        }
+        BookStatus status = bookRepository.findStatusById(entry.getTargetId()).orElse(null);
+        set(entry.getTargetId(), status == BookStatus.AVAILABLE);
+    }
+}
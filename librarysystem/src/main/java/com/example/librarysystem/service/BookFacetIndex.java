@@ -0,0 +1,249 @@
+package com.example.librarysystem.service;
+
+import com.example.librarysystem.changelog.ChangeLogListener;
+import com.example.librarysystem.domain.ChangeLogEntry;
+import com.example.librarysystem.domain.enums.BookStatus;
+import com.example.librarysystem.domain.enums.ChangeTarget;
+import com.example.librarysystem.dto.BookFacets;
+import com.example.librarysystem.event.*;
+import com.example.librarysystem.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 출판사/연대/가격대/상태 값 별로 도서 id 비트맵을 유지해 facet 건수를 비트맵 AND로 계산
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookFacetIndex implements DomainEventConsumer, ChangeLogListener {
+
+    static final String UNKNOWN = "unknown";
+    private static final int[] PRICE_BAND_BOUNDS = {20000, 30000, 40000, 50000};
+
+    private final BookRepository bookRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> byPublisher = new HashMap<>();
+    private final Map<String, RoaringBitmap> byDecade = new HashMap<>();
+    private final Map<String, RoaringBitmap> byPriceBand = new HashMap<>();
+    private final Map<String, RoaringBitmap> byStatus = new HashMap<>();
+    private final Map<Integer, FacetValues> indexed = new HashMap<>();
+
+    record FacetValues(String publisher, String decade, String priceBand, String status) {
+
+        static FacetValues of(String publisher, Integer publishedAt, Integer price, BookStatus status) {
+            return new FacetValues(
+                    publisher != null ? publisher : UNKNOWN,
+                    publishedAt != null ? (publishedAt / 10 * 10) + "s" : UNKNOWN,
+                    priceBand(price),
+                    status != null ? status.name() : UNKNOWN);
+        }
+
+        FacetValues withStatus(BookStatus status) {
+            return new FacetValues(publisher, decade, priceBand, status.name());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Object[]> rows = bookRepository.findAllFacetValues();
+        lock.writeLock().lock();
+        try {
+            all.clear();
+            byPublisher.clear();
+            byDecade.clear();
+            byPriceBand.clear();
+            byStatus.clear();
+            indexed.clear();
+            for (Object[] row : rows) {
+                put(Math.toIntExact((Long) row[0]),
+                        FacetValues.of((String) row[1], (Integer) row[2], (Integer) row[3], (BookStatus) row[4]));
+            }
+            runOptimize();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Book facet index built for {} books", rows.size());
+    }
+
+    // 커밋된 도서/대출 변경을 색인에 반영 (같은 이벤트를 다시 받아도 결과가 같음)
+    @Override
+    public void onEvents(List<SequencedEvent> batch) {
+        for (SequencedEvent sequenced : batch) {
+            DomainEvent event = sequenced.event();
+            if (event instanceof BookChanged changed) {
+                int id = Math.toIntExact(changed.bookId());
+                if (changed.type() == ChangeType.DELETED) {
+                    remove(id);
+                } else {
+                    index(id, FacetValues.of(changed.publisher(), changed.publishedAt(), changed.price(), changed.status()));
+                }
+            } else if (event instanceof LoanCreated created) {
+                updateStatus(Math.toIntExact(created.bookId()), BookStatus.LOANED);
+            } else if (event instanceof LoanReturned returned) {
+                updateStatus(Math.toIntExact(returned.bookId()), BookStatus.AVAILABLE);
+            }
+        }
+    }
+
+    // 다른 노드에서 바뀐 도서는 DB에서 다시 읽어 색인
+    @Override
+    public void onRemoteChange(ChangeLogEntry entry) {
+        if (entry.getTarget() != ChangeTarget.BOOK) {
+            return;
+        }
+        if (entry.getTargetId() == null) {
+            rebuild();
+            return;
+        }
+        int id = Math.toIntExact(entry.getTargetId());
+        List<Object[]> rows = bookRepository.findFacetValuesById(entry.getTargetId());
+        if (rows.isEmpty()) {
+            remove(id);
+        } else {
+            Object[] row = rows.get(0);
+            index(id, FacetValues.of((String) row[1], (Integer) row[2], (Integer) row[3], (BookStatus) row[4]));
+        }
+    }
+
+    void index(int id, FacetValues values) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+            put(id, values);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void updateStatus(int id, BookStatus status) {
+        lock.writeLock().lock();
+        try {
+            FacetValues previous = indexed.get(id);
+            if (previous != null) {
+                removeUnlocked(id);
+                put(id, previous.withStatus(status));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 모든 도서 id 비트맵 사본
+    public RoaringBitmap allIds() {
+        lock.readLock().lock();
+        try {
+            return all.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색 결과 비트맵과 각 facet 값 비트맵의 교집합 크기
+    public BookFacets countFacets(RoaringBitmap matches) {
+        lock.readLock().lock();
+        try {
+            return BookFacets.builder()
+                    .publisher(count(byPublisher, matches, Comparator.comparing((Map.Entry<String, Integer> e) -> -e.getValue())))
+                    .decade(count(byDecade, matches, Map.Entry.comparingByKey()))
+                    .priceBand(count(byPriceBand, matches, Comparator.comparingInt(e -> priceBandOrder(e.getKey()))))
+                    .status(count(byStatus, matches, Map.Entry.comparingByKey()))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<String, Integer> count(Map<String, RoaringBitmap> facet, RoaringBitmap matches,
+                                       Comparator<Map.Entry<String, Integer>> order) {
+        List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+        for (Map.Entry<String, RoaringBitmap> e : facet.entrySet()) {
+            int count = RoaringBitmap.andCardinality(e.getValue(), matches);
+            if (count > 0) {
+                counts.add(Map.entry(e.getKey(), count));
+            }
+        }
+        counts.sort(order);
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        counts.forEach(e -> result.put(e.getKey(), e.getValue()));
+        return result;
+    }
+
+    private void put(int id, FacetValues values) {
+        all.add(id);
+        byPublisher.computeIfAbsent(values.publisher(), k -> new RoaringBitmap()).add(id);
+        byDecade.computeIfAbsent(values.decade(), k -> new RoaringBitmap()).add(id);
+        byPriceBand.computeIfAbsent(values.priceBand(), k -> new RoaringBitmap()).add(id);
+        byStatus.computeIfAbsent(values.status(), k -> new RoaringBitmap()).add(id);
+        indexed.put(id, values);
+    }
+
+    private void removeUnlocked(int id) {
+        FacetValues previous = indexed.remove(id);
+        if (previous == null) {
+            return;
+        }
+        all.remove(id);
+        removeFrom(byPublisher, previous.publisher(), id);
+        removeFrom(byDecade, previous.decade(), id);
+        removeFrom(byPriceBand, previous.priceBand(), id);
+        removeFrom(byStatus, previous.status(), id);
+    }
+
+    private void removeFrom(Map<String, RoaringBitmap> facet, String value, int id) {
+        RoaringBitmap bitmap = facet.get(value);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                facet.remove(value);
+            }
+        }
+    }
+
+    private void runOptimize() {
+        all.runOptimize();
+        byPublisher.values().forEach(RoaringBitmap::runOptimize);
+        byDecade.values().forEach(RoaringBitmap::runOptimize);
+        byPriceBand.values().forEach(RoaringBitmap::runOptimize);
+        byStatus.values().forEach(RoaringBitmap::runOptimize);
+    }
+
+    static String priceBand(Integer price) {
+        if (price == null) {
+            return UNKNOWN;
+        }
+        int lower = 0;
+        for (int bound : PRICE_BAND_BOUNDS) {
+            if (price < bound) {
+                return lower + "-" + (bound - 1);
+            }
+            lower = bound;
+        }
+        return lower + "+";
+    }
+
+    private static int priceBandOrder(String band) {
+        if (UNKNOWN.equals(band)) {
+            return Integer.MAX_VALUE;
+        }
+        return Integer.parseInt(band.replaceAll("[-+].*$", ""));
+    }
+}
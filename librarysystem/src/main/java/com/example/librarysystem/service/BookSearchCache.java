@@ -0,0 +1,145 @@
+package com.example.librarysystem.service;
+
+import com.example.librarysystem.changelog.ChangeLogListener;
+import com.example.librarysystem.domain.ChangeLogEntry;
+import com.example.librarysystem.domain.enums.ChangeTarget;
+import com.example.librarysystem.dto.BookDto;
+import com.example.librarysystem.dto.BookFacets;
+import com.example.librarysystem.dto.BookSearchPage;
+import com.example.librarysystem.dto.SearchCacheStats;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// 검색 결과 페이지 캐시 (Caffeine W-TinyLFU: 자주 쓰이는 검색만 받아들여 한 번씩 훑는 검색에 밀려나지 않음)
+//
+// 도서 목록이 바뀔 때마다 카탈로그 버전을 올리고, 항목은 채울 당시의 버전과 함께 저장
+// 조회 시 버전이 다르면 무효로 보므로 무효화는 AtomicLong 증가 한 번으로 끝남
+@Component
+public class BookSearchCache implements ChangeLogListener {
+
+    // 항목 크기 추정용 (객체 헤더/필드/참조 대략치)
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+    private static final int BOOK_OVERHEAD_BYTES = 96;
+    private static final int FACET_VALUE_OVERHEAD_BYTES = 64;
+
+    private final Cache<BookSearchKey, CachedPage> cache;
+    private final long maxBytes;
+    private final AtomicLong catalogVersion = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder staleMisses = new LongAdder();
+
+    private record CachedPage(long version, Page<BookDto> page, int weight) {
+    }
+
+    public BookSearchCache(@Value("${search-cache.max-bytes:16777216}") long maxBytes) {
+        this.maxBytes = maxBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((BookSearchKey key, CachedPage value) -> value.weight())
+                .recordStats()
+                .build();
+    }
+
+    // 현재 카탈로그 버전의 결과가 있으면 반환, 없으면 loader로 채움
+    // 조회 전에 읽은 버전을 붙이므로 조회 도중 변경이 커밋되면 그 결과는 다음 조회에서 바로 무효
+    public Page<BookDto> get(BookSearchKey key, Function<BookSearchKey, Page<BookDto>> loader) {
+        long version = catalogVersion.get();
+        CachedPage cached = cache.getIfPresent(key);
+        if (cached != null && cached.version() == version) {
+            hits.increment();
+            return cached.page();
+        }
+        if (cached != null) {
+            staleMisses.increment();
+        }
+        misses.increment();
+
+        Page<BookDto> page = loader.apply(key);
+        cache.put(key, new CachedPage(version, page, weigh(key, page)));
+        return page;
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 카탈로그 버전 증가
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    catalogVersion.incrementAndGet();
+                }
+            });
+        } else {
+            catalogVersion.incrementAndGet();
+        }
+    }
+
+    // 다른 노드에서 도서가 바뀐 경우
+    @Override
+    public void onRemoteChange(ChangeLogEntry entry) {
+        if (entry.getTarget() == ChangeTarget.BOOK) {
+            catalogVersion.incrementAndGet();
+        }
+    }
+
+    public SearchCacheStats getStats() {
+        CacheStats stats = cache.stats();
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        return SearchCacheStats.builder()
+                .catalogVersion(catalogVersion.get())
+                .entries(cache.estimatedSize())
+                .estimatedBytes(cache.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0))
+                        .orElse(0L))
+                .maxBytes(maxBytes)
+                .hits(hitCount)
+                .misses(missCount)
+                .staleMisses(staleMisses.sum())
+                .hitRate(requests == 0 ? 0 : (double) hitCount / requests)
+                .evictions(stats.evictionCount())
+                .build();
+    }
+
+    private static int weigh(BookSearchKey key, Page<BookDto> page) {
+        long bytes = ENTRY_OVERHEAD_BYTES
+                + sizeOf(key.title()) + sizeOf(key.author()) + sizeOf(key.publisher()) + sizeOf(key.sortBy());
+        for (BookDto book : page.getContent()) {
+            bytes += BOOK_OVERHEAD_BYTES + sizeOf(book.getTitle()) + sizeOf(book.getAuthor()) + sizeOf(book.getPublisher());
+        }
+        if (page instanceof BookSearchPage searchPage && searchPage.getFacets() != null) {
+            BookFacets facets = searchPage.getFacets();
+            bytes += sizeOf(facets.getPublisher()) + sizeOf(facets.getDecade())
+                    + sizeOf(facets.getPriceBand()) + sizeOf(facets.getStatus());
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static long sizeOf(String value) {
+        return value == null ? 0 : 40 + 2L * value.length();
+    }
+
+    private static long sizeOf(Map<String, Integer> counts) {
+        if (counts == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (String value : counts.keySet()) {
+            bytes += FACET_VALUE_OVERHEAD_BYTES + sizeOf(value);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.librarysystem.service;
+
+import com.example.librarysystem.dto.BookDto;
+import com.example.librarysystem.dto.SearchCoalescingStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 동일한 도서 검색 요청을 하나의 실행으로 합침
+// 대기하는 요청이 트랜잭션/커넥션을 잡고 있지 않도록 실제 실행하는 요청만 읽기 전용 트랜잭션을 엶
+@Component
+public class BookSearchCoalescer {
+
+    private final SingleFlight<BookSearchKey, Page<BookDto>> singleFlight;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BookSearchCoalescer(PlatformTransactionManager transactionManager,
+                               @Value("${search-coalescing.max-waiters:200}") int maxWaiters,
+                               @Value("${search-coalescing.timeout-ms:3000}") long timeoutMs) {
+        this.singleFlight = new SingleFlight<>(maxWaiters, Duration.ofMillis(timeoutMs));
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 대기 시간보다 오래 걸리는 쿼리는 DB에서도 중단
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, Duration.ofMillis(timeoutMs).toSeconds()));
+    }
+
+    public Page<BookDto> search(BookSearchKey key, Function<BookSearchKey, Page<BookDto>> search) {
+        return singleFlight.execute(key, () -> readOnlyTransaction.execute(status -> search.apply(key)));
+    }
+
+    public SearchCoalescingStats getStats() {
+        return SearchCoalescingStats.builder()
+                .inFlight(singleFlight.getInFlight())
+                .executions(singleFlight.getExecutions())
+                .shared(singleFlight.getShared())
+                .rejected(singleFlight.getRejected())
+                .timedOut(singleFlight.getTimedOut())
+                .build();
+    }
+}
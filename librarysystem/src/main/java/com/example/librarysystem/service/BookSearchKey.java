@@ -0,0 +1,35 @@
+package com.example.librarysystem.service;
+
+import com.example.librarysystem.dto.BookSearchRequest;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+// 결과가 같은 검색 요청이 같은 키가 되도록 정규화한 검색 조건 (검색에도 이 값을 그대로 사용)
+// 검색어는 LOWER(...) LIKE로 비교하므로 소문자 변환으로는 결과가 바뀌지 않음
+// 공백은 LIKE '%검색어%'의 결과를 바꾸므로 그대로 둠 (" java "와 "java"는 다른 키)
+// 한글 자모가 분리된(NFD) 입력도 저장된 값과 같은 NFC로 맞춤
+public record BookSearchKey(String title, String author, String publisher,
+                            String sortBy, String sortDirection, int page, int size, boolean facets,
+                            boolean availableOnly) {
+
+    public static BookSearchKey of(BookSearchRequest request) {
+        return new BookSearchKey(
+                normalize(request.getTitle()),
+                normalize(request.getAuthor()),
+                normalize(request.getPublisher()),
+                request.getSortBy(),
+                "desc".equalsIgnoreCase(request.getSortDirection()) ? "desc" : "asc",
+                request.getPage(),
+                request.getSize(),
+                request.isFacets(),
+                request.isAvailableOnly());
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,44 +1,125 @@
 package com.example.librarysystem.service;
 
+import com.example.librarysystem.changelog.ChangeLogWriter;
 import com.example.librarysystem.domain.Book;
+import com.example.librarysystem.domain.enums.ChangeTarget;
 import com.example.librarysystem.dto.BookCreateRequest;
 import com.example.librarysystem.dto.BookDto;
+import com.example.librarysystem.dto.BookFacets;
+import com.example.librarysystem.dto.BookSearchPage;
 import com.example.librarysystem.dto.BookSearchRequest;
+import com.example.librarysystem.dto.RelatedBookDto;
+import com.example.librarysystem.event.BookChanged;
+import com.example.librarysystem.event.ChangeType;
+import com.example.librarysystem.event.DomainEventBus;
+import com.example.librarysystem.repository.ArchivedLoanRepository;
 import com.example.librarysystem.repository.BookRepository;
+import com.example.librarysystem.repository.BookRepositoryCustom;
+import com.example.librarysystem.repository.LoanRepository;
 import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class BookService {
 
-    private final BookRepository bookRepository;
+    // IN 목록 하나에 담는 최대 id 수
+    static final int BULK_CHUNK_SIZE = 500;
 
-    @Transactional(readOnly = true)
+    private final BookRepository bookRepository;
+    private final LoanRepository loanRepository;
+    private final ArchivedLoanRepository archivedLoanRepository;
+    private final BookFacetIndex bookFacetIndex;
+    private final DomainEventBus domainEventBus;
+    private final ChangeLogWriter changeLogWriter;
+    private final BookSearchCoalescer bookSearchCoalescer;
+    private final BookSearchCache bookSearchCache;
+    private final CoLoanRecommender coLoanRecommender;
+    private final BookAvailabilityIndex bookAvailabilityIndex;
+    private final BookTitleService bookTitleService;
+
+    // 자주 쓰이는 검색은 캐시에서 반환하고, 동시에 들어온 같은 조건의 검색은 한 번만 실행해 결과를 공유
     public Page<BookDto> searchBooks(BookSearchRequest request) {
+        return bookSearchCache.get(BookSearchKey.of(request),
+                key -> bookSearchCoalescer.search(key, this::search));
+    }
+
+    private Page<BookDto> search(BookSearchKey key) {
 
         // 정렬 설정
         Sort sort = Sort.by(
-                "desc".equalsIgnoreCase(request.getSortDirection()) ?
+                "desc".equals(key.sortDirection()) ?
                         Sort.Direction.DESC : Sort.Direction.ASC,
-                request.getSortBy()
+                key.sortBy()
         );
 
-        Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
+        Pageable pageable = PageRequest.of(key.page(), key.size(), sort);
+
+        Page<BookDto> books = key.availableOnly() ? searchAvailable(key, sort, pageable) :
+                bookRepository.findBooksWithFilters(
+                        key.title(),
+                        key.author(),
+                        key.publisher(),
+                        pageable
+                ).map(this::convertToDto);
+
+        if (!key.facets()) {
+            return books;
+        }
+        return new BookSearchPage(books, getFacets(key));
+    }
+
+    // 텍스트 조건에 맞는 id를 정렬 순서대로 읽어 대출 가능 비트셋으로 거른 뒤, 요청한 페이지의 도서만 한 번에 읽음
+    private Page<BookDto> searchAvailable(BookSearchKey key, Sort sort, Pageable pageable) {
+        List<Long> ids = bookAvailabilityIndex.retainAvailable(
+                bookRepository.findSortedIdsWithFilters(key.title(), key.author(), key.publisher(), sort));
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        List<Long> pageIds = ids.subList(from, to);
+
+        // IN 조회는 순서를 보장하지 않으므로 id 목록 순서로 다시 정렬
+        Map<Long, Book> books = new HashMap<>();
+        bookRepository.findAllById(pageIds).forEach(book -> books.put(book.getId(), book));
+        List<BookDto> content = new ArrayList<>(pageIds.size());
+        for (Long id : pageIds) {
+            Book book = books.get(id);
+            if (book != null) {
+                content.add(convertToDto(book));
+            }
+        }
+        return new PageImpl<>(content, pageable, ids.size());
+    }
 
-        return bookRepository.findBooksWithFilters(
-                request.getTitle(),
-                request.getAuthor(),
-                request.getPublisher(),
-                pageable
-        ).map(this::convertToDto);
+    // 텍스트 검색 결과 id 비트맵과 facet 비트맵의 교집합으로 건수 계산
+    private BookFacets getFacets(BookSearchKey key) {
+        if (key.title() == null && key.author() == null && key.publisher() == null && !key.availableOnly()) {
+            return bookFacetIndex.countFacets(bookFacetIndex.allIds());
+        }
+
+        List<Long> ids = bookRepository.findIdsWithFilters(key.title(), key.author(), key.publisher());
+        if (key.availableOnly()) {
+            ids = bookAvailabilityIndex.retainAvailable(ids);
+        }
+        RoaringBitmap matches = new RoaringBitmap();
+        for (Long id : ids) {
+            matches.add(Math.toIntExact(id));
+        }
+        return bookFacetIndex.countFacets(matches);
     }
 
     @Transactional(readOnly = true)
@@ -47,12 +128,34 @@ public class BookService {
                 .map(this::convertToDto);
     }
 
+    // fields에 있는 필드만 조회 (SELECT 컬럼과 응답 모두 축소, 알 수 없는 필드면 IllegalArgumentException)
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllBooks(Collection<String> fields, Pageable pageable) {
+        BookRepositoryCustom.validateSparse(fields, pageable.getSort());
+        return bookRepository.findAllSparse(fields, pageable);
+    }
+
     @Transactional(readOnly = true)
     public Optional<BookDto> getBookById(Long id) {
         return bookRepository.findById(id)
                 .map(this::convertToDto);
     }
 
+    // 함께 대출된 도서 (미리 계산된 이웃 id를 2차 캐시에서 도서로 바꿈, 삭제된 도서는 제외)
+    @Transactional(readOnly = true)
+    public List<RelatedBookDto> getRelatedBooks(Long id, int limit) {
+        CoLoanRecommender.Neighbors neighbors = coLoanRecommender.related(id);
+        List<RelatedBookDto> related = new ArrayList<>();
+        for (int i = 0; i < neighbors.bookIds().length && related.size() < limit; i++) {
+            long coBorrowers = neighbors.counts()[i];
+            bookRepository.findById(neighbors.bookIds()[i]).ifPresent(book -> related.add(RelatedBookDto.builder()
+                    .book(convertToDto(book))
+                    .coBorrowers(coBorrowers)
+                    .build()));
+        }
+        return related;
+    }
+
     @Transactional(readOnly = true)
     public Optional<Book> findById(Long id) {
         return bookRepository.findById(id);
@@ -67,14 +170,19 @@ public class BookService {
                 .publishedAt(request.getPublishedAt())
                 .price(request.getPrice())
                 .build();
+        bookTitleService.attachCopy(book);
 
         Book savedBook = bookRepository.save(book);
+        changeLogWriter.record(ChangeTarget.BOOK, savedBook.getId(), null);
+        bookSearchCache.invalidateAfterCommit();
+        bookAvailabilityIndex.setAfterCommit(savedBook.getId(), savedBook.isAvailable());
+        domainEventBus.publishAfterCommit(BookChanged.of(savedBook, ChangeType.CREATED));
         return convertToDto(savedBook);
     }
 
     @Transactional
     public BookDto updateBook(Long id, BookCreateRequest request) {
-        Book book = bookRepository.findById(id)
+        Book book = bookTitleService.lockCopyForMove(id)
                 .orElseThrow(() -> new IllegalArgumentException("Book not found"));
 
         book.setTitle(request.getTitle());
@@ -82,14 +190,40 @@ public class BookService {
         book.setPublisher(request.getPublisher());
         book.setPublishedAt(request.getPublishedAt());
         book.setPrice(request.getPrice());
+        bookTitleService.moveCopy(book);
 
         Book savedBook = bookRepository.save(book);
+        changeLogWriter.record(ChangeTarget.BOOK, savedBook.getId(), null);
+        bookSearchCache.invalidateAfterCommit();
+        domainEventBus.publishAfterCommit(BookChanged.of(savedBook, ChangeType.UPDATED));
         return convertToDto(savedBook);
     }
 
     @Transactional
     public void deleteBook(Long id) {
-        bookRepository.deleteById(id);
+        deleteBooks(List.of(id));
+    }
+
+    // 엔티티를 읽어 한 건씩 cascade 하지 않고, 참조하는 테이블부터 집합 단위 DELETE
+    @Transactional
+    public int deleteBooks(Collection<Long> ids) {
+        List<Long> bookIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        int deleted = 0;
+        for (int from = 0; from < bookIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = bookIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, bookIds.size()));
+            bookTitleService.removeCopies(chunk);
+            archivedLoanRepository.deleteByBookIdIn(chunk);
+            loanRepository.deleteByBookIdIn(chunk);
+            deleted += bookRepository.deleteByIdIn(chunk);
+        }
+
+        changeLogWriter.recordAll(ChangeTarget.BOOK, bookIds);
+        bookSearchCache.invalidateAfterCommit();
+        bookIds.forEach(id -> {
+            bookAvailabilityIndex.setAfterCommit(id, false);
+            domainEventBus.publishAfterCommit(BookChanged.deleted(id));
+        });
+        return deleted;
     }
 
     private BookDto convertToDto(Book book) {
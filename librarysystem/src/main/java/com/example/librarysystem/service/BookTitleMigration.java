@@ -0,0 +1,78 @@
+package com.example.librarysystem.service;
+
+import com.example.librarysystem.domain.Book;
+import com.example.librarysystem.domain.BookTitle;
+import com.example.librarysystem.domain.enums.BookStatus;
+import com.example.librarysystem.repository.BookRepository;
+import com.example.librarysystem.repository.BookTitleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 타이틀이 없는 기존 도서를 서지 정보별 타이틀로 묶고 사본 수를 계산 (기동 시 한 번, 이미 옮긴 도서는 건너뜀)
+// 청크의 도서 행을 잠가 두므로 같은 시점의 대출/반납과 카운터가 어긋나지 않음
+@Slf4j
+@Component
+public class BookTitleMigration implements ApplicationRunner {
+
+    private final BookRepository bookRepository;
+    private final BookTitleRepository bookTitleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BookTitleMigration(BookRepository bookRepository,
+                              BookTitleRepository bookTitleRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${book-title-migration.chunk-size:500}") int chunkSize) {
+        this.bookRepository = bookRepository;
+        this.bookTitleRepository = bookTitleRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long migrated = 0;
+        int moved;
+        do {
+            Integer count = transactionTemplate.execute(status -> migrateChunk());
+            moved = count == null ? 0 : count;
+            migrated += moved;
+        } while (moved == chunkSize);
+
+        if (migrated > 0) {
+            log.info("Grouped {} books into titles", migrated);
+        }
+    }
+
+    private int migrateChunk() {
+        List<Book> books = bookRepository.findWithoutTitleForUpdate(PageRequest.of(0, chunkSize));
+        Map<String, BookTitle> titles = new HashMap<>();
+        for (Book book : books) {
+            BookTitle title = titles.computeIfAbsent(BookTitle.keyOf(book), key ->
+                    bookTitleRepository.findByTitleKey(key)
+                            .orElseGet(() -> bookTitleRepository.save(BookTitle.builder()
+                                    .titleKey(key)
+                                    .title(book.getTitle())
+                                    .author(book.getAuthor())
+                                    .publisher(book.getPublisher())
+                                    .publishedAt(book.getPublishedAt())
+                                    .build())));
+            book.setBookTitle(title);
+        }
+        if (!titles.isEmpty()) {
+            bookRepository.flush();
+            bookTitleRepository.recount(titles.values().stream().map(BookTitle::getId).toList(), BookStatus.AVAILABLE);
+        }
+        return books.size();
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.librarysystem.service;
+
+import com.example.librarysystem.domain.Book;
+import com.example.librarysystem.domain.BookTitle;
+import com.example.librarysystem.domain.enums.BookStatus;
+import com.example.librarysystem.dto.BookSearchRequest;
+import com.example.librarysystem.dto.BookTitleDto;
+import com.example.librarysystem.repository.BookRepository;
+import com.example.librarysystem.repository.BookTitleRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+// 타이틀(서지 정보)과 사본(books)의 대출 가능 사본 수 관리
+@Service
+public class BookTitleService {
+
+    // 다른 대출과 같은 사본을 잡았을 때 다음 후보로 넘어가는 횟수
+    private static final int COPY_CANDIDATES = 8;
+
+    private final BookTitleRepository bookTitleRepository;
+    private final BookRepository bookRepository;
+    private final TransactionTemplate newTransaction;
+
+    public BookTitleService(BookTitleRepository bookTitleRepository,
+                            BookRepository bookRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.bookTitleRepository = bookTitleRepository;
+        this.bookRepository = bookRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<BookTitleDto> searchTitles(BookSearchRequest request) {
+        Sort sort = Sort.by(
+                "desc".equalsIgnoreCase(request.getSortDirection()) ?
+                        Sort.Direction.DESC : Sort.Direction.ASC,
+                request.getSortBy()
+        );
+        Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
+
+        return bookTitleRepository.searchTitles(
+                blankToNull(request.getTitle()),
+                blankToNull(request.getAuthor()),
+                blankToNull(request.getPublisher()),
+                request.isAvailableOnly(),
+                pageable
+        ).map(this::convertToDto);
+    }
+
+    // 새 사본을 같은 서지 정보의 타이틀에 붙임 (없으면 생성)
+    @Transactional
+    public void attachCopy(Book book) {
+        BookTitle title = findOrCreate(book);
+        book.setBookTitle(title);
+        bookTitleRepository.addCopies(title.getId(), 1, book.isAvailable() ? 1 : 0);
+    }
+
+    // 서지 정보를 바꿀 사본을 잠가서 가져옴 (moveCopy 전에 호출)
+    // 대출과 같은 순서(타이틀 -> 사본)로 잠그고, 잠근 뒤의 대출 가능 여부로 사본 수를 옮김
+    @Transactional
+    public Optional<Book> lockCopyForMove(Long bookId) {
+        Long titleId = bookRepository.findTitleIdById(bookId).orElse(null);
+        if (titleId != null) {
+            bookTitleRepository.findByIdForUpdate(titleId);
+        }
+        Optional<Book> book = bookRepository.findByIdForUpdate(bookId);
+        Long lockedTitleId = book.map(Book::getBookTitle).map(BookTitle::getId).orElse(null);
+        if (book.isPresent() && !Objects.equals(titleId, lockedTitleId)) {
+            throw new IllegalStateException("Book was moved to another title, please retry");
+        }
+        return book;
+    }
+
+    // 서지 정보가 바뀐 사본을 맞는 타이틀로 옮김 (사본은 lockCopyForMove로 잠근 상태)
+    @Transactional
+    public void moveCopy(Book book) {
+        BookTitle current = book.getBookTitle();
+        if (current != null) {
+            if (current.getTitleKey().equals(BookTitle.keyOf(book))) {
+                return;
+            }
+            bookTitleRepository.addCopies(current.getId(), -1, book.isAvailable() ? -1 : 0);
+        }
+        attachCopy(book);
+    }
+
+    // 삭제할 사본만큼 타이틀의 사본 수를 줄임 (사본을 지우기 전에 호출)
+    @Transactional
+    public void removeCopies(Collection<Long> bookIds) {
+        for (Object[] row : bookRepository.countCopiesByTitle(bookIds, BookStatus.AVAILABLE)) {
+            bookTitleRepository.addCopies((Long) row[0],
+                    -((Number) row[1]).intValue(), -((Number) row[2]).intValue());
+        }
+    }
+
+    // 대출 중 상태에서 대출 가능으로 바뀐 사본만큼 늘림 (상태를 바꾼 뒤 호출)
+    @Transactional
+    public void releaseCopies(Collection<Long> bookIds) {
+        for (Object[] row : bookRepository.countCopiesByTitle(bookIds, BookStatus.AVAILABLE)) {
+            bookTitleRepository.addCopies((Long) row[0], 0, ((Number) row[2]).intValue());
+        }
+    }
+
+    // 대출 가능 사본 수를 조건부로 하나 차감 (남은 사본이 없으면 false)
+    @Transactional
+    public boolean claimCopy(Long titleId) {
+        return bookTitleRepository.claimCopy(titleId) == 1;
+    }
+
+    @Transactional
+    public void releaseCopy(Long titleId) {
+        bookTitleRepository.releaseCopy(titleId);
+    }
+
+    @Transactional
+    public Optional<Long> findTitleId(Long bookId) {
+        return bookRepository.findTitleIdById(bookId);
+    }
+
+    // 지정한 사본 행을 잠가서 가져옴 (같은 사본의 동시 대출 방지)
+    @Transactional
+    public Optional<Book> lockCopy(Long bookId) {
+        return bookRepository.findByIdForUpdate(bookId);
+    }
+
+    // 카운터를 먼저 확보한 뒤, 타이틀의 대출 가능 사본 하나를 잠가서 가져옴
+    @Transactional
+    public Book lockFreeCopy(Long titleId) {
+        List<Long> candidates = bookRepository.findCopyIds(titleId, BookStatus.AVAILABLE, PageRequest.of(0, COPY_CANDIDATES));
+        for (Long id : candidates) {
+            Book book = bookRepository.findByIdForUpdate(id).orElse(null);
+            if (book != null && book.isAvailable()) {
+                return book;
+            }
+        }
+        throw new IllegalStateException("No free copy found for this title");
+    }
+
+    // 같은 서지 정보의 도서가 동시에 등록되면 title_key 유니크 제약에 걸리므로,
+    // 타이틀은 별도 트랜잭션에서 만들고 중복이면 먼저 만든 쪽의 행을 다시 읽음
+    // (바깥 트랜잭션이 롤백되면 사본 0개인 타이틀이 남지만 검색에서는 제외됨)
+    private BookTitle findOrCreate(Book book) {
+        String key = BookTitle.keyOf(book);
+        Optional<BookTitle> existing = bookTitleRepository.findByTitleKey(key);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        try {
+            newTransaction.executeWithoutResult(status -> bookTitleRepository.saveAndFlush(BookTitle.builder()
+                    .titleKey(key)
+                    .title(book.getTitle())
+                    .author(book.getAuthor())
+                    .publisher(book.getPublisher())
+                    .publishedAt(book.getPublishedAt())
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 만듦
+        }
+        return bookTitleRepository.findByTitleKey(key)
+                .orElseThrow(() -> new IllegalStateException("Title not found after insert: " + key));
+    }
+
+    private BookTitleDto convertToDto(BookTitle title) {
+        return BookTitleDto.builder()
+                .id(title.getId())
+                .title(title.getTitle())
+                .author(title.getAuthor())
+                .publisher(title.getPublisher())
+                .publishedAt(title.getPublishedAt())
+                .totalCopies(title.getTotalCopies())
+                .availableCopies(title.getAvailableCopies())
+                .available(title.getAvailableCopies() > 0)
+                .build();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+}
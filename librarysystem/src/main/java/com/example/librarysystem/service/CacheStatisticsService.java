@@ -0,0 +1,55 @@
+package com.example.librarysystem.service;
+
+import com.example.librarysystem.domain.Member;
+import com.example.librarysystem.dto.CacheRegionStats;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.NaturalIdStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private static final List<String> ENTITY_REGIONS = List.of("member", "book");
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // 2차 캐시 region 별 적중률 조회
+    public List<CacheRegionStats> getRegionStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<CacheRegionStats> result = new ArrayList<>();
+
+        for (String region : ENTITY_REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            result.add(toStats(region, regionStatistics.getHitCount(), regionStatistics.getMissCount(),
+                    regionStatistics.getPutCount(), regionStatistics.getElementCountInMemory()));
+        }
+
+        NaturalIdStatistics naturalId = statistics.getNaturalIdStatistics(Member.class.getName());
+        result.add(toStats("member (natural-id)", naturalId.getCacheHitCount(), naturalId.getCacheMissCount(),
+                naturalId.getCachePutCount(), -1));
+
+        result.add(toStats("query", statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount(), -1));
+        return result;
+    }
+
+    private CacheRegionStats toStats(String region, long hits, long misses, long puts, long elements) {
+        long lookups = hits + misses;
+        return CacheRegionStats.builder()
+                .region(region)
+                .hitCount(hits)
+                .missCount(misses)
+                .putCount(puts)
+                .elementCountInMemory(elements)
+                .hitRatio(lookups == 0 ? 0.0 : (double) hits / lookups)
+                .build();
+    }
+}
@@ -0,0 +1,307 @@
+package com.example.librarysystem.service;
+
+import com.example.librarysystem.event.DomainEventConsumer;
+import com.example.librarysystem.event.LoanCreated;
+import com.example.librarysystem.event.SequencedEvent;
+import com.example.librarysystem.repository.LoanRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// "이 책을 빌린 회원이 함께 빌린 책" 추천
+//
+// 도서 a, b를 모두 빌린 회원 수를 도서별 행(long -> long 맵)으로 유지하고, 도서별 상위 K개 이웃을 미리 계산해 둠
+// 기동 시 대출 이력 전체를 한 번 읽어 도서 id 기준으로 나눈 샤드를 병렬로 만들고, 이후에는 대출 이벤트마다 갱신
+// 회원당 최근 도서 수와 행 크기에 상한을 두어 메모리를 제한
+@Slf4j
+@Component
+public class CoLoanRecommender implements DomainEventConsumer {
+
+    // 이웃 도서 id와 함께 빌린 회원 수 (함께 빌린 회원 수 내림차순)
+    public record Neighbors(long[] bookIds, long[] counts) {
+
+        static final Neighbors EMPTY = new Neighbors(new long[0], new long[0]);
+
+        // bookId의 값을 count로 바꾼 상위 k개
+        Neighbors with(long bookId, long count, int k) {
+            int existing = -1;
+            for (int i = 0; i < bookIds.length; i++) {
+                if (bookIds[i] == bookId) {
+                    existing = i;
+                    break;
+                }
+            }
+            if (existing < 0 && bookIds.length >= k && count <= counts[bookIds.length - 1]) {
+                return this;
+            }
+
+            int length = existing >= 0 ? bookIds.length : Math.min(bookIds.length + 1, k);
+            long[] ids = new long[length];
+            long[] values = new long[length];
+            int n = 0;
+            boolean placed = false;
+            for (int i = 0; i < bookIds.length && n < length; i++) {
+                if (i == existing) {
+                    continue;
+                }
+                if (!placed && count > counts[i]) {
+                    ids[n] = bookId;
+                    values[n++] = count;
+                    placed = true;
+                    if (n == length) {
+                        break;
+                    }
+                }
+                ids[n] = bookIds[i];
+                values[n++] = counts[i];
+            }
+            if (!placed && n < length) {
+                ids[n] = bookId;
+                values[n] = count;
+            }
+            return new Neighbors(ids, values);
+        }
+    }
+
+    private final LoanRepository loanRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int topK;
+    private final int maxBooksPerMember;
+    private final int maxRowSize;
+    private final int parallelism;
+
+    // 샤드 i는 mix(bookId) % shards == i 인 도서의 행을 가짐 (빌드 후에는 this 락을 잡고 수정)
+    private LongObjectHashMap<LongLongHashMap>[] shards;
+    private final Map<Long, Neighbors> neighbors = new ConcurrentHashMap<>();
+
+    // 빌드가 끝나기 전에 도착한 대출 (빌드가 읽지 못한 대출만 다시 반영)
+    private final List<LoanCreated> pending = new ArrayList<>();
+    private long snapshotMaxLoanId;
+    // 빌드가 실제로 읽은 대출 id. id는 snapshotMaxLoanId 이하지만 빌드가 읽은 뒤에 커밋된 대출을 구분
+    private Roaring64Bitmap snapshotLoanIds = new Roaring64Bitmap();
+    private long lastSequence = -1;     // 이벤트 버스 소비자 스레드에서만 접근
+
+    public CoLoanRecommender(LoanRepository loanRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${recommendation.top-k:20}") int topK,
+                             @Value("${recommendation.max-books-per-member:200}") int maxBooksPerMember,
+                             @Value("${recommendation.max-row-size:2000}") int maxRowSize,
+                             @Value("${recommendation.build-parallelism:0}") int parallelism) {
+        this.loanRepository = loanRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.topK = topK;
+        this.maxBooksPerMember = maxBooksPerMember;
+        this.maxRowSize = maxRowSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBuild() {
+        Thread.ofPlatform().name("co-loan-build").daemon().start(() -> {
+            try {
+                build();
+            } catch (RuntimeException e) {
+                log.warn("Co-loan recommendation build failed", e);
+            }
+        });
+    }
+
+    void build() {
+        long startedAt = System.nanoTime();
+        long maxLoanId = loanRepository.findMaxLoanIdIncludingArchive();
+        Roaring64Bitmap loanIds = new Roaring64Bitmap();
+        List<long[]> memberBooks = readOnlyTransaction.execute(status -> loadMemberBooks(maxLoanId, loanIds));
+        loanIds.runOptimize();
+
+        @SuppressWarnings("unchecked")
+        LongObjectHashMap<LongLongHashMap>[] built = new LongObjectHashMap[parallelism];
+        IntStream.range(0, parallelism).parallel().forEach(shard -> {
+            LongObjectHashMap<LongLongHashMap> rows = new LongObjectHashMap<>();
+            for (long[] books : memberBooks) {
+                for (long a : books) {
+                    if (shardOf(a) != shard) {
+                        continue;
+                    }
+                    LongLongHashMap row = rows.computeIfAbsent(a, key -> new LongLongHashMap());
+                    for (long b : books) {
+                        if (a != b) {
+                            row.addTo(b, 1);
+                        }
+                    }
+                }
+            }
+            rows.forEach((bookId, row) -> {
+                row.retainLargest(maxRowSize);
+                neighbors.put(bookId, topNeighbors(row));
+            });
+            built[shard] = rows;
+        });
+
+        List<LoanCreated> arrived;
+        synchronized (this) {
+            snapshotMaxLoanId = maxLoanId;
+            snapshotLoanIds = loanIds;
+            shards = built;
+            arrived = new ArrayList<>(pending);
+            pending.clear();
+        }
+        applyAll(arrived);
+        log.info("Co-loan recommendations built for {} books from {} members in {} ms",
+                neighbors.size(), memberBooks.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // 회원별로 최근 대출부터 서로 다른 도서를 최대 maxBooksPerMember개 (두 권 이상인 회원만)
+    private List<long[]> loadMemberBooks(long maxLoanId, Roaring64Bitmap loanIds) {
+        List<long[]> memberBooks = new ArrayList<>();
+        try (Stream<Object[]> rows = loanRepository.streamMemberBooksUpTo(maxLoanId)) {
+            long[] current = {0};
+            long[] books = new long[maxBooksPerMember];
+            int[] count = {0};
+            rows.forEach(row -> {
+                long memberId = ((Number) row[0]).longValue();
+                long bookId = ((Number) row[1]).longValue();
+                loanIds.addLong(((Number) row[2]).longValue());
+                if (memberId != current[0]) {
+                    if (count[0] > 1) {
+                        memberBooks.add(Arrays.copyOf(books, count[0]));
+                    }
+                    current[0] = memberId;
+                    count[0] = 0;
+                }
+                if (count[0] < maxBooksPerMember && !contains(books, count[0], bookId)) {
+                    books[count[0]++] = bookId;
+                }
+            });
+            if (count[0] > 1) {
+                memberBooks.add(Arrays.copyOf(books, count[0]));
+            }
+        }
+        return memberBooks;
+    }
+
+    // 배치의 대출 이력은 쿼리 한 번으로 읽고(락 밖), 메모리 갱신만 락 안에서 함
+    @Override
+    public void onEvents(List<SequencedEvent> batch) {
+        List<LoanCreated> loans = new ArrayList<>();
+        for (SequencedEvent sequenced : batch) {
+            if (sequenced.sequence() > lastSequence && sequenced.event() instanceof LoanCreated loan) {
+                loans.add(loan);
+            }
+        }
+        long last = batch.get(batch.size() - 1).sequence();
+        synchronized (this) {
+            if (shards == null) {
+                pending.addAll(loans);
+                lastSequence = Math.max(lastSequence, last);
+                return;
+            }
+        }
+        applyAll(loans);
+        lastSequence = Math.max(lastSequence, last);
+    }
+
+    private void applyAll(List<LoanCreated> loans) {
+        if (loans.isEmpty()) {
+            return;
+        }
+        long maxId = snapshotMaxLoanId;
+        List<Long> memberIds = new ArrayList<>();
+        for (LoanCreated loan : loans) {
+            maxId = Math.max(maxId, loan.loanId());
+            memberIds.add(loan.memberId());
+        }
+        Map<Long, List<long[]>> history = new HashMap<>();
+        for (Object[] row : loanRepository.findRecentMemberBooks(memberIds.stream().distinct().toList(), maxId,
+                maxBooksPerMember + loans.size())) {
+            history.computeIfAbsent(((Number) row[0]).longValue(), key -> new ArrayList<>())
+                    .add(new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue()});
+        }
+        synchronized (this) {
+            for (LoanCreated loan : loans) {
+                apply(loan, history.getOrDefault(loan.memberId(), List.of()));
+            }
+        }
+    }
+
+    // 이 대출보다 앞선 대출만 보고 세므로, 같은 회원의 대출 이벤트가 어떤 순서로 와도 쌍마다 한 번만 셈
+    // 빌드가 읽지 못한 스냅샷 구간의 대출은 빌드가 읽은 뒤쪽 대출과의 쌍도 셈 (그 쌍은 빌드에서 빠졌으므로)
+    // history: 회원의 대출 [bookId, loanId] (최근 대출 순)
+    private void apply(LoanCreated loan, List<long[]> history) {
+        boolean missedBySnapshot = loan.loanId() <= snapshotMaxLoanId;
+        if (missedBySnapshot && snapshotLoanIds.contains(loan.loanId())) {
+            return;
+        }
+        long bookId = loan.bookId();
+        long[] previous = new long[maxBooksPerMember];
+        int count = 0;
+        for (long[] entry : history) {
+            if (count == maxBooksPerMember) {
+                break;
+            }
+            long loanId = entry[1];
+            boolean before = loanId < loan.loanId() || (missedBySnapshot && snapshotLoanIds.contains(loanId));
+            if (loanId == loan.loanId() || !before) {
+                continue;
+            }
+            if (entry[0] == bookId) {
+                return;
+            }
+            if (!contains(previous, count, entry[0])) {
+                previous[count++] = entry[0];
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            increment(bookId, previous[i]);
+            increment(previous[i], bookId);
+        }
+    }
+
+    private void increment(long a, long b) {
+        LongLongHashMap row = shards[shardOf(a)].computeIfAbsent(a, key -> new LongLongHashMap());
+        long count = row.addTo(b, 1);
+        if (row.size() > maxRowSize) {
+            row.retainLargest(maxRowSize * 3 / 4);
+            neighbors.put(a, topNeighbors(row));
+        } else {
+            neighbors.put(a, neighbors.getOrDefault(a, Neighbors.EMPTY).with(b, count, topK));
+        }
+    }
+
+    private Neighbors topNeighbors(LongLongHashMap row) {
+        Neighbors[] top = {Neighbors.EMPTY};
+        row.forEach((bookId, count) -> top[0] = top[0].with(bookId, count, topK));
+        return top[0];
+    }
+
+    public Neighbors related(long bookId) {
+        return neighbors.getOrDefault(bookId, Neighbors.EMPTY);
+    }
+
+    private int shardOf(long bookId) {
+        return Math.floorMod(LongLongHashMap.mix(bookId), parallelism);
+    }
+
+    private static boolean contains(long[] values, int length, long value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.librarysystem.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 여러 스레드가 락 없이 읽고 CAS로 쓰는 비트셋 (크기가 모자라면 두 배로 늘림)
+// 늘리는 동안에는 쓰기만 막고, 읽기는 이전 배열을 볼 수 있음
+final class ConcurrentBitSet {
+
+    private final ReadWriteLock resizeLock = new ReentrantReadWriteLock();
+    private volatile AtomicLongArray words;
+
+    ConcurrentBitSet(long expectedBits) {
+        words = new AtomicLongArray(Math.max(1, Math.toIntExact((expectedBits + 63) >>> 6)));
+    }
+
+    boolean get(long index) {
+        if (index < 0) {
+            return false;
+        }
+        AtomicLongArray current = words;
+        long word = index >>> 6;
+        return word < current.length() && (current.get((int) word) & (1L << index)) != 0;
+    }
+
+    void set(long index, boolean value) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Negative index: " + index);
+        }
+        int word = Math.toIntExact(index >>> 6);
+        if (word >= words.length()) {
+            grow(word);
+        }
+        long mask = 1L << index;
+        resizeLock.readLock().lock();
+        try {
+            if (value) {
+                words.getAndAccumulate(word, mask, (bits, bit) -> bits | bit);
+            } else {
+                words.getAndAccumulate(word, ~mask, (bits, bit) -> bits & bit);
+            }
+        } finally {
+            resizeLock.readLock().unlock();
+        }
+    }
+
+    long cardinality() {
+        AtomicLongArray current = words;
+        long count = 0;
+        for (int i = 0; i < current.length(); i++) {
+            count += Long.bitCount(current.get(i));
+        }
+        return count;
+    }
+
+    private void grow(int word) {
+        resizeLock.writeLock().lock();
+        try {
+            AtomicLongArray current = words;
+            if (word < current.length()) {
+                return;
+            }
+            AtomicLongArray grown = new AtomicLongArray(Math.max(word + 1, current.length() * 2));
+            for (int i = 0; i < current.length(); i++) {
+                grown.set(i, current.get(i));
+            }
+            words = grown;
+        } finally {
+            resizeLock.writeLock().unlock();
+        }
+    }
+}
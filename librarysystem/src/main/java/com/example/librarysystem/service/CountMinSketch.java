@@ -0,0 +1,70 @@
+package com.example.librarysystem.service;
+
+// 고정 크기 카운터 배열로 항목별 빈도를 근사 (과대 추정만 하며 오차는 확률 1 - delta로 epsilon * total 이하)
+final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final int[] counts;
+    private long total;
+
+    CountMinSketch(int width, int depth) {
+        this.width = width;
+        this.depth = depth;
+        this.counts = new int[width * depth];
+    }
+
+    // epsilon = e / width, delta = e^-depth
+    static CountMinSketch forError(double epsilon, double confidence) {
+        int width = (int) Math.ceil(Math.E / epsilon);
+        int depth = (int) Math.ceil(Math.log(1 / (1 - confidence)));
+        return new CountMinSketch(width, Math.max(1, depth));
+    }
+
+    void add(Object key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int row = 0; row < depth; row++) {
+            counts[row * width + Math.floorMod(h1 + row * h2, width)]++;
+        }
+        total++;
+    }
+
+    long estimate(Object key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counts[row * width + Math.floorMod(h1 + row * h2, width)]);
+        }
+        return min;
+    }
+
+    // 같은 크기의 스케치는 카운터를 더하면 두 구간을 합친 스케치가 됨
+    void merge(CountMinSketch other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+    }
+
+    long total() {
+        return total;
+    }
+
+    // 추정치가 참값을 넘는 최대 폭 (확률 1 - delta)
+    long errorBound() {
+        return (long) Math.ceil(Math.E / width * total);
+    }
+
+    private static long hash(Object key) {
+        long h = key.hashCode() * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
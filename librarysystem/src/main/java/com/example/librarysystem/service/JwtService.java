@@ -1,10 +1,9 @@
 package com.example.librarysystem.service;
 
 import com.example.librarysystem.config.JwtProperties;
-import com.example.librarysystem.domain.RefreshToken;
 import com.example.librarysystem.domain.Member;
 import com.example.librarysystem.dto.ResponseAccessToken;
-import com.example.librarysystem.repository.RefreshTokenRepository;
+import com.example.librarysystem.repository.RefreshTokenStore;
 import com.example.librarysystem.repository.MemberRepository;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
@@ -30,7 +29,7 @@ import java.util.Date;
 public class JwtService {
     private final JwtProperties jwtProperties;
     private final UserDetailsService userDetailsService;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final MemberRepository memberRepository;
 
     public static final String ACCESS_TOKEN = "access_token";
@@ -80,16 +79,7 @@ public class JwtService {
         String accessToken = generateToken(member.getUsername(), ACCESS_TOKEN);
         String refreshToken = generateToken(member.getUsername(), REFRESH_TOKEN);
 
-        RefreshToken rtEntity = refreshTokenRepository.findByMember_Username(member.getUsername()).orElse(null);
-        if (rtEntity == null) {
-            rtEntity = RefreshToken.builder()
-                    .member(member)
-                    .refreshToken(refreshToken)
-                    .build();
-        } else {
-            rtEntity.setRefreshToken(refreshToken);
-        }
-        refreshTokenRepository.save(rtEntity);
+        refreshTokenStore.save(member, refreshToken);
 
         return ResponseAccessToken.builder()
                 .accessToken(accessToken)
@@ -102,21 +92,20 @@ public class JwtService {
         try {
             String username = getRefreshJwtParser().parseSignedClaims(token).getPayload().getSubject();
             Member member = memberRepository.findByUsername(username).orElse(null);
-            RefreshToken refreshTokenEntity = refreshTokenRepository.findByMember_Username(username).orElse(null);
 
             if (member == null) {
                 return ResponseAccessToken.builder().error("Unknown user.").build();
             }
 
-            // DB에서 삭제된 Refresh Token은 무효화
-            if (refreshTokenEntity == null) {
+            // 저장소에서 삭제된 Refresh Token은 무효화
+            if (!refreshTokenStore.exists(username)) {
                 return ResponseAccessToken.builder().error("Refresh token not found in database.").build();
             }
 
-            // LocalStorage의 토큰과 DB의 토큰이 일치해야 함
-            if (!refreshTokenEntity.getRefreshToken().equals(token)) {
-                // 토큰이 다르면 보안 위험으로 간주하고 DB에서 삭제
-                refreshTokenRepository.delete(refreshTokenEntity);
+            // LocalStorage의 토큰과 저장소의 토큰이 일치해야 함
+            if (!refreshTokenStore.matches(username, token)) {
+                // 토큰이 다르면 보안 위험으로 간주하고 저장소에서 삭제
+                refreshTokenStore.delete(username);
                 return ResponseAccessToken.builder().error("Invalid refresh token.").build();
             }
 
@@ -124,8 +113,8 @@ public class JwtService {
             try {
                 getRefreshJwtParser().parseSignedClaims(token);
             } catch (ExpiredJwtException e) {
-                // 만료된 Refresh Token은 DB에서 삭제
-                refreshTokenRepository.delete(refreshTokenEntity);
+                // 만료된 Refresh Token은 저장소에서 삭제
+                refreshTokenStore.delete(username);
                 return ResponseAccessToken.builder().error("Refresh token expired.").build();
             }
             return getAccessTokenByUsername(member);
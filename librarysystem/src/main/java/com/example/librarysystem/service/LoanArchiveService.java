@@ -0,0 +1,135 @@
+package com.example.librarysystem.service;
+
+import com.example.librarysystem.domain.enums.LoanStatus;
+import com.example.librarysystem.dto.LoanArchiveStats;
+import com.example.librarysystem.repository.LoanRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 보존 기간이 지난 반납 완료 대출을 loans_archive로 조금씩 옮겨 loans 테이블을 작게 유지
+// 한 번 실행이 수십 초 걸릴 수 있으므로 스케줄러 스레드는 시작만 하고, 이관은 전용 스레드에서 실행
+@Slf4j
+@Service
+public class LoanArchiveService {
+
+    private final LoanRepository loanRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int chunkSize;
+    private final long throttleMs;
+    private final int maxChunksPerRun;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            runnable -> Thread.ofPlatform().name("loan-archive").daemon().unstarted(runnable));
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong totalArchived = new AtomicLong();
+    private volatile long lastRunArchived;
+    private volatile LocalDateTime lastRunStartedAt;
+    private volatile LocalDateTime lastRunFinishedAt;
+    private volatile long lastChunkMillis;
+
+    public LoanArchiveService(LoanRepository loanRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${loan-archive.retention-days:365}") long retentionDays,
+                              @Value("${loan-archive.chunk-size:500}") int chunkSize,
+                              @Value("${loan-archive.throttle-ms:200}") long throttleMs,
+                              @Value("${loan-archive.max-chunks-per-run:200}") int maxChunksPerRun) {
+        this.loanRepository = loanRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = Duration.ofDays(retentionDays);
+        this.chunkSize = chunkSize;
+        this.throttleMs = throttleMs;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    @Scheduled(initialDelayString = "${loan-archive.initial-delay-ms:60000}",
+            fixedDelayString = "${loan-archive.interval-ms:3600000}")
+    public void scheduleArchive() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::archive);
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    private void archive() {
+        lastRunStartedAt = LocalDateTime.now();
+        long archived = 0;
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                int moved = archiveChunk(cutoff);
+                archived += moved;
+                if (moved < chunkSize) {
+                    break;
+                }
+                // 운영 트래픽과 락/IO를 나눠 쓰도록 청크 사이에 쉼
+                Thread.sleep(throttleMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lastRunArchived = archived;
+            lastRunFinishedAt = LocalDateTime.now();
+            running.set(false);
+        }
+        if (archived > 0) {
+            log.info("Archived {} returned loans", archived);
+        }
+    }
+
+    // 청크 하나를 복사 후 삭제까지 한 트랜잭션으로 처리
+    private int archiveChunk(LocalDateTime cutoff) {
+        long startedAt = System.nanoTime();
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> ids = loanRepository.findArchivableIds(LoanStatus.RETURNED, cutoff, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            loanRepository.copyToArchive(ids);
+            return loanRepository.deleteByIdIn(ids);
+        });
+        lastChunkMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        totalArchived.addAndGet(moved == null ? 0 : moved);
+        return moved == null ? 0 : moved;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public LoanArchiveStats getStats() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        Object[] backlog = loanRepository.findArchiveBacklog(LoanStatus.RETURNED, cutoff).get(0);
+        LocalDateTime oldest = (LocalDateTime) backlog[1];
+
+        return LoanArchiveStats.builder()
+                .totalArchived(totalArchived.get())
+                .lastRunArchived(lastRunArchived)
+                .lastRunStartedAt(lastRunStartedAt)
+                .lastRunFinishedAt(lastRunFinishedAt)
+                .lastChunkMillis(lastChunkMillis)
+                .backlog(((Number) backlog[0]).longValue())
+                .lagSeconds(oldest == null ? 0 : Duration.between(oldest, cutoff).toSeconds())
+                .build();
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.librarysystem.service;
+
+import com.example.librarysystem.domain.ReminderCheckpoint;
+import com.example.librarysystem.domain.ReminderOutbox;
+import com.example.librarysystem.domain.enums.LoanStatus;
+import com.example.librarysystem.dto.LoanReminderStats;
+import com.example.librarysystem.repository.LoanRepository;
+import com.example.librarysystem.repository.ReminderCheckpointRepository;
+import com.example.librarysystem.repository.ReminderOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 반납 예정일이 다가온 대출을 기준 시간(예: 72시간, 24시간 전)별로 찾아 reminder_outbox에 기록하고,
+// 메일 발송 대신 outbox를 로컬 파일(JSON Lines)로 내보냄
+//
+// 매번 전체 대출을 조회하지 않도록 기준 시간별 (dueDate, id) 커서를 reminder_checkpoints에 저장하고
+// 다음 실행은 그 뒤부터 청크 단위로 읽음. 청크의 outbox 기록과 커서 저장은 한 트랜잭션
+@Slf4j
+@Service
+public class LoanReminderService {
+
+    private final LoanRepository loanRepository;
+    private final ReminderOutboxRepository outboxRepository;
+    private final ReminderCheckpointRepository checkpointRepository;
+    private final ObjectMapper objectMapper;
+    // 읽기 전용이 아닌 트랜잭션으로 열어 replica 지연으로 대출을 건너뛰지 않도록 primary를 읽음
+    private final TransactionTemplate transactionTemplate;
+    private final int[] thresholdHours;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Duration lateLoanGrace;
+    private final Duration retention;
+    private final Path dispatchFile;
+    private final int dispatchBatchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong totalEnqueued = new AtomicLong();
+    private final AtomicLong totalDispatched = new AtomicLong();
+    private volatile long lastRunEnqueued;
+    private volatile LocalDateTime lastRunStartedAt;
+    private volatile LocalDateTime lastRunFinishedAt;
+    private volatile long lastChunkMillis;
+    private volatile LocalDateTime lastDispatchAt;
+
+    public LoanReminderService(LoanRepository loanRepository,
+                               ReminderOutboxRepository outboxRepository,
+                               ReminderCheckpointRepository checkpointRepository,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${loan-reminder.thresholds-hours:72,24}") int[] thresholdHours,
+                               @Value("${loan-reminder.chunk-size:500}") int chunkSize,
+                               @Value("${loan-reminder.max-chunks-per-run:100}") int maxChunksPerRun,
+                               @Value("${loan-reminder.late-loan-grace-ms:300000}") long lateLoanGraceMs,
+                               @Value("${loan-reminder.retention-days:30}") long retentionDays,
+                               @Value("${loan-reminder.dispatch-file:./data/reminders/outbox.jsonl}") String dispatchFile,
+                               @Value("${loan-reminder.dispatch-batch-size:500}") int dispatchBatchSize) {
+        this.loanRepository = loanRepository;
+        this.outboxRepository = outboxRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 큰 기준 시간부터 처리 (각 기준 시간은 다음으로 작은 기준 시간까지의 구간만 담당)
+        this.thresholdHours = Arrays.stream(thresholdHours).distinct().map(h -> -h).sorted().map(h -> -h).toArray();
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.lateLoanGrace = Duration.ofMillis(lateLoanGraceMs);
+        this.retention = Duration.ofDays(retentionDays);
+        this.dispatchFile = Paths.get(dispatchFile);
+        this.dispatchBatchSize = dispatchBatchSize;
+    }
+
+    @Scheduled(initialDelayString = "${loan-reminder.initial-delay-ms:30000}",
+            fixedDelayString = "${loan-reminder.interval-ms:60000}")
+    public void enqueue() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        lastRunStartedAt = now;
+        long enqueued = 0;
+        try {
+            for (int i = 0; i < thresholdHours.length; i++) {
+                int nextThreshold = i + 1 < thresholdHours.length ? thresholdHours[i + 1] : 0;
+                enqueued += enqueueThreshold(thresholdHours[i], nextThreshold, now);
+            }
+            LocalDateTime cutoff = now.minus(retention);
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteDispatchedBefore(cutoff));
+        } catch (RuntimeException e) {
+            // 커서는 마지막으로 커밋된 청크까지만 저장되어 있으므로 다음 실행에서 이어서 처리
+            log.warn("Loan reminder run failed", e);
+        } finally {
+            lastRunEnqueued = enqueued;
+            lastRunFinishedAt = LocalDateTime.now();
+            running.set(false);
+        }
+        if (enqueued > 0) {
+            log.info("Enqueued {} loan reminders", enqueued);
+        }
+    }
+
+    // 반납 예정일이 (now + nextThreshold, now + threshold] 인 대출을 커서 뒤부터 처리
+    private long enqueueThreshold(int threshold, int nextThreshold, LocalDateTime now) {
+        LocalDateTime lower = now.plusHours(nextThreshold);
+        LocalDateTime upper = now.plusHours(threshold);
+        ReminderCheckpoint checkpoint = transactionTemplate.execute(status -> checkpointRepository.findById(threshold)
+                .orElseGet(() -> ReminderCheckpoint.builder()
+                        .thresholdHours(threshold)
+                        .dueCursor(lower)
+                        .loanIdCursor(0L)
+                        .createdCursor(now)
+                        .build()));
+        // 구간 아래로 밀려난 대출은 더 작은 기준 시간이 담당
+        if (checkpoint.getDueCursor().isBefore(lower)) {
+            checkpoint.setDueCursor(lower);
+            checkpoint.setLoanIdCursor(0L);
+        }
+
+        long enqueued = 0;
+        int chunks = 0;
+
+        // 대출 기간이 짧아 반납 예정일이 이미 커서보다 앞에 있는 새 대출
+        // 커밋이 늦은 대출도 잡도록 지난 실행 시각보다 grace 만큼 앞에서부터 확인 (중복은 outbox에서 걸러짐)
+        LocalDateTime createdSince = checkpoint.getCreatedCursor().minus(lateLoanGrace);
+        long afterId = 0;
+        while (chunks++ < maxChunksPerRun) {
+            long startedAt = System.nanoTime();
+            long lastId = afterId;
+            long[] result = transactionTemplate.execute(status -> {
+                List<Long> ids = loanRepository.findLateDueSoonIds(LoanStatus.ACTIVE, createdSince, lower,
+                        checkpoint.getDueCursor(), lastId, PageRequest.of(0, chunkSize));
+                int inserted = ids.isEmpty() ? 0 : outboxRepository.insertForLoans(ids, threshold);
+                if (ids.size() < chunkSize) {
+                    checkpoint.setCreatedCursor(now);
+                    saveCheckpoint(checkpoint);
+                }
+                return new long[]{ids.size(), ids.isEmpty() ? lastId : ids.get(ids.size() - 1), inserted};
+            });
+            lastChunkMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+            enqueued += result[2];
+            afterId = result[1];
+            if (result[0] < chunkSize) {
+                break;
+            }
+        }
+
+        // 커서 뒤의 마감 임박 대출
+        while (chunks++ < maxChunksPerRun) {
+            long startedAt = System.nanoTime();
+            int[] result = transactionTemplate.execute(status -> {
+                List<Object[]> rows = loanRepository.findDueSoonAfter(LoanStatus.ACTIVE, checkpoint.getDueCursor(),
+                        checkpoint.getLoanIdCursor(), upper, PageRequest.of(0, chunkSize));
+                if (rows.isEmpty()) {
+                    return new int[]{0, 0};
+                }
+                List<Long> ids = rows.stream().map(row -> (Long) row[0]).toList();
+                int inserted = outboxRepository.insertForLoans(ids, threshold);
+                Object[] last = rows.get(rows.size() - 1);
+                checkpoint.setLoanIdCursor((Long) last[0]);
+                checkpoint.setDueCursor((LocalDateTime) last[1]);
+                saveCheckpoint(checkpoint);
+                return new int[]{rows.size(), inserted};
+            });
+            lastChunkMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+            enqueued += result[1];
+            if (result[0] < chunkSize) {
+                break;
+            }
+        }
+
+        totalEnqueued.addAndGet(enqueued);
+        return enqueued;
+    }
+
+    private void saveCheckpoint(ReminderCheckpoint checkpoint) {
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+    }
+
+    // 파일에 먼저 쓰고 발송 완료로 표시하므로, 그 사이 실패하면 같은 알림이 다시 기록될 수 있음
+    // 수신 측은 outbox id로 중복을 제거
+    @Scheduled(initialDelayString = "${loan-reminder.initial-delay-ms:30000}",
+            fixedDelayString = "${loan-reminder.dispatch-interval-ms:10000}")
+    public void dispatch() {
+        try {
+            int dispatched;
+            do {
+                dispatched = dispatchBatch();
+            } while (dispatched == dispatchBatchSize);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Loan reminder dispatch failed", e);
+        }
+    }
+
+    private int dispatchBatch() throws IOException {
+        List<ReminderOutbox> pending = transactionTemplate.execute(status ->
+                outboxRepository.findPending(PageRequest.of(0, dispatchBatchSize)));
+        if (pending == null || pending.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (ReminderOutbox reminder : pending) {
+            lines.append(objectMapper.writeValueAsString(reminder)).append('\n');
+        }
+        Path parent = dispatchFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(dispatchFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+
+        List<Long> ids = pending.stream().map(ReminderOutbox::getId).toList();
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.markDispatched(ids, now));
+        totalDispatched.addAndGet(ids.size());
+        lastDispatchAt = now;
+        return ids.size();
+    }
+
+    public LoanReminderStats getStats() {
+        Map<Integer, LocalDateTime> dueCursors = new LinkedHashMap<>();
+        checkpointRepository.findAll().forEach(checkpoint ->
+                dueCursors.put(checkpoint.getThresholdHours(), checkpoint.getDueCursor()));
+
+        return LoanReminderStats.builder()
+                .totalEnqueued(totalEnqueued.get())
+                .lastRunEnqueued(lastRunEnqueued)
+                .lastRunStartedAt(lastRunStartedAt)
+                .lastRunFinishedAt(lastRunFinishedAt)
+                .lastChunkMillis(lastChunkMillis)
+                .dueCursors(dueCursors)
+                .pending(outboxRepository.countByDispatchedAtIsNull())
+                .totalDispatched(totalDispatched.get())
+                .lastDispatchAt(lastDispatchAt)
+                .build();
+    }
+}
@@ -1,29 +1,49 @@
 package com.example.librarysystem.service;
 
+import com.example.librarysystem.changelog.ChangeLogWriter;
+import com.example.librarysystem.domain.ArchivedLoan;
 import com.example.librarysystem.domain.Book;
 import com.example.librarysystem.domain.Loan;
 import com.example.librarysystem.domain.Member;
+import com.example.librarysystem.domain.enums.ChangeTarget;
 import com.example.librarysystem.domain.enums.LoanStatus;
 import com.example.librarysystem.dto.*;
+import com.example.librarysystem.event.DomainEventBus;
+import com.example.librarysystem.event.LoanCreated;
+import com.example.librarysystem.event.LoanReturned;
+import com.example.librarysystem.repository.ArchivedLoanRepository;
 import com.example.librarysystem.repository.LoanRepository;
+import com.example.librarysystem.repository.LoanRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class LoanService {
 
     private final LoanRepository loanRepository;
+    private final ArchivedLoanRepository archivedLoanRepository;
     private final MemberService memberService;
-    private final BookService bookService;
+    private final DomainEventBus domainEventBus;
+    private final ChangeLogWriter changeLogWriter;
+    private final BookSearchCache bookSearchCache;
+    private final BookAvailabilityIndex bookAvailabilityIndex;
+    private final BookTitleService bookTitleService;
 
     @Transactional(readOnly = true)
     public List<LoanDto> getUserLoans(Long userId) {
@@ -35,10 +55,9 @@ public class LoanService {
 
     @Transactional(readOnly = true)
     public List<LoanDto> getBookLoanHistory(Long bookId) {
-        return loanRepository.findByBookIdOrderByLoanDateDesc(bookId)
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return mergeByLoanDateDesc(
+                loanRepository.findByBookIdOrderByLoanDateDesc(bookId),
+                archivedLoanRepository.findByBookIdOrderByLoanDateDesc(bookId));
     }
 
     @Transactional(readOnly = true)
@@ -54,13 +73,15 @@ public class LoanService {
         Loan loan = loanRepository.findById(loanId)
                 .orElseThrow(() -> new IllegalArgumentException("Loan not found"));
 
-        if (loan.getStatus() == LoanStatus.RETURNED) {
-            throw new IllegalStateException("Book is already returned");
-        }
-
-        loan.returnBook();
+        markReturned(loan);
+        releaseTitleCopy(loan.getBook());
 
         Loan savedLoan = loanRepository.save(loan);
+        changeLogWriter.record(ChangeTarget.BOOK, savedLoan.getBook().getId(), null);
+        // 검색 결과의 대출 상태가 바뀜
+        bookSearchCache.invalidateAfterCommit();
+        bookAvailabilityIndex.setAfterCommit(savedLoan.getBook().getId(), true);
+        domainEventBus.publishAfterCommit(LoanReturned.of(savedLoan));
         return convertToDto(savedLoan);
     }
 
@@ -69,9 +90,15 @@ public class LoanService {
         Loan loan = loanRepository.findByBookIdAndStatus(bookId, LoanStatus.ACTIVE)
                 .orElseThrow(() -> new IllegalArgumentException("Active loan not found for this book"));
 
-        loan.returnBook();
+        markReturned(loan);
+        releaseTitleCopy(loan.getBook());
 
         Loan savedLoan = loanRepository.save(loan);
+        changeLogWriter.record(ChangeTarget.BOOK, savedLoan.getBook().getId(), null);
+        // 검색 결과의 대출 상태가 바뀜
+        bookSearchCache.invalidateAfterCommit();
+        bookAvailabilityIndex.setAfterCommit(savedLoan.getBook().getId(), true);
+        domainEventBus.publishAfterCommit(LoanReturned.of(savedLoan));
         return convertToDto(savedLoan);
     }
 
@@ -82,45 +109,92 @@ public class LoanService {
     }
 
     private LoanDto convertToDto(Loan loan) {
-        MemberDto userDto = MemberDto.builder()
-                .id(loan.getMember().getId())
-                .username(loan.getMember().getUsername())
-                .contact(loan.getMember().getContact())
-                .memo(loan.getMember().getMemo())
-                .userType(loan.getMember().getUserType())
-                .build();
-
-        BookDto bookDto = BookDto.builder()
-                .id(loan.getBook().getId())
-                .title(loan.getBook().getTitle())
-                .author(loan.getBook().getAuthor())
-                .publisher(loan.getBook().getPublisher())
-                .publishedAt(loan.getBook().getPublishedAt())
-                .price(loan.getBook().getPrice())
-                .status(loan.getBook().getStatus())
-                .available(loan.getBook().isAvailable())
+        return LoanDto.builder()
+                .id(loan.getId())
+                .user(convertToDto(loan.getMember()))
+                .book(convertToDto(loan.getBook()))
+                .loanDate(loan.getLoanDate())
+                .dueDate(loan.getDueDate())
+                .returnDate(loan.getReturnDate())
+                .status(loan.getStatus())
+                .overdue(loan.isOverdue())
                 .build();
+    }
 
+    private LoanDto convertToDto(ArchivedLoan loan) {
         return LoanDto.builder()
                 .id(loan.getId())
-                .user(userDto)
-                .book(bookDto)
+                .user(convertToDto(loan.getMember()))
+                .book(convertToDto(loan.getBook()))
                 .loanDate(loan.getLoanDate())
                 .dueDate(loan.getDueDate())
                 .returnDate(loan.getReturnDate())
                 .status(loan.getStatus())
-                .overdue(loan.isOverdue())
+                .overdue(false)
+                .build();
+    }
+
+    private MemberDto convertToDto(Member member) {
+        return MemberDto.builder()
+                .id(member.getId())
+                .username(member.getUsername())
+                .contact(member.getContact())
+                .memo(member.getMemo())
+                .userType(member.getUserType())
+                .build();
+    }
+
+    private BookDto convertToDto(Book book) {
+        return BookDto.builder()
+                .id(book.getId())
+                .title(book.getTitle())
+                .author(book.getAuthor())
+                .publisher(book.getPublisher())
+                .publishedAt(book.getPublishedAt())
+                .price(book.getPrice())
+                .status(book.getStatus())
+                .available(book.isAvailable())
                 .build();
     }
 
     @Transactional(readOnly = true)
     public List<LoanDto> getAllUserLoans(Long userId) {
+        return mergeByLoanDateDesc(
+                loanRepository.findAllByMemberIdOrderByLoanDateDesc(userId),
+                archivedLoanRepository.findAllByMemberIdOrderByLoanDateDesc(userId));
+    }
+
+    // 현재 대출 테이블의 대출만 (대출일 역순)
+    @Transactional(readOnly = true)
+    public List<LoanDto> getCurrentUserLoans(Long userId) {
         return loanRepository.findAllByMemberIdOrderByLoanDateDesc(userId)
                 .stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
 
+    // 이관된 대출 이력만 (대출일 역순)
+    @Transactional(readOnly = true)
+    public List<LoanDto> getArchivedUserLoans(Long userId) {
+        return archivedLoanRepository.findAllByMemberIdOrderByLoanDateDesc(userId)
+                .stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    // 현재 대출과 이관된 대출 이력을 대출일 역순으로 합침
+    private List<LoanDto> mergeByLoanDateDesc(List<Loan> loans, List<ArchivedLoan> archivedLoans) {
+        return mergeLoansByLoanDateDesc(
+                loans.stream().map(this::convertToDto).toList(),
+                archivedLoans.stream().map(this::convertToDto).toList());
+    }
+
+    public static List<LoanDto> mergeLoansByLoanDateDesc(List<LoanDto> loans, List<LoanDto> archivedLoans) {
+        return Stream.concat(loans.stream(), archivedLoans.stream())
+                .sorted(Comparator.comparing(LoanDto::getLoanDate, Comparator.nullsLast(Comparator.reverseOrder())))
+                .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public List<LoanDto> getUserActiveLoans(Long userId) {
         return loanRepository.findByMemberIdAndStatus(userId, LoanStatus.ACTIVE)
@@ -133,7 +207,10 @@ public class LoanService {
     public UserLoanStatistics getUserLoanStatistics(Long userId) {
         List<Loan> allLoans = loanRepository.findAllByMemberIdOrderByLoanDateDesc(userId);
 
-        long totalLoans = allLoans.size();
+        // 이관된 대출은 모두 반납 완료 상태
+        long archivedLoans = archivedLoanRepository.countByMemberId(userId);
+
+        long totalLoans = allLoans.size() + archivedLoans;
         long activeLoans = allLoans.stream()
                 .filter(loan -> loan.getStatus() == LoanStatus.ACTIVE)
                 .count();
@@ -142,7 +219,7 @@ public class LoanService {
                 .count();
         long returnedLoans = allLoans.stream()
                 .filter(loan -> loan.getStatus() == LoanStatus.RETURNED)
-                .count();
+                .count() + archivedLoans;
 
         return UserLoanStatistics.builder()
                 .userId(userId)
@@ -153,6 +230,17 @@ public class LoanService {
                 .build();
     }
 
+    // 이미 읽어 둔 현재 대출 DTO와 이관된 대출 수로 통계 계산 (getUserLoanStatistics와 같은 기준)
+    public static UserLoanStatistics statisticsOf(Long userId, List<LoanDto> loans, long archivedLoans) {
+        return UserLoanStatistics.builder()
+                .userId(userId)
+                .totalLoans(loans.size() + archivedLoans)
+                .activeLoans(loans.stream().filter(loan -> loan.getStatus() == LoanStatus.ACTIVE).count())
+                .overdueLoans(loans.stream().filter(LoanDto::isOverdue).count())
+                .returnedLoans(loans.stream().filter(loan -> loan.getStatus() == LoanStatus.RETURNED).count() + archivedLoans)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public Page<LoanDto> getAllActiveLoansWithPaging(Pageable pageable) {
         Page<Loan> loans = loanRepository.findByStatusWithPaging(LoanStatus.ACTIVE, pageable);
@@ -165,23 +253,32 @@ public class LoanService {
         return loans.map(this::convertToDto);
     }
 
-    @Transactional
-    public LoanDto loanBook(LoanRequest request) {
-        Member member = memberService.findByMemberName(getUsernameById(request.getUserId()))
-                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+    // fields에 있는 필드만 조회 (SELECT 컬럼과 응답 모두 축소, 알 수 없는 필드면 IllegalArgumentException)
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllActiveLoansWithPaging(Collection<String> fields, Pageable pageable) {
+        LoanRepositoryCustom.validateSparse(fields, pageable.getSort());
+        return loanRepository.findSparseByStatus(LoanStatus.ACTIVE, fields, pageable);
+    }
 
-        Book book = bookService.findById(request.getBookId())
-                .orElseThrow(() -> new IllegalArgumentException("Book not found"));
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> searchLoans(String query, Collection<String> fields, Pageable pageable) {
+        Pageable byLoanDate = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by(Sort.Direction.DESC, "loanDate"));
+        LoanRepositoryCustom.validateSparse(fields, byLoanDate.getSort());
+        return loanRepository.searchSparse(query, fields, byLoanDate);
+    }
 
-        if (!book.isAvailable()) {
+    @Transactional
+    public LoanDto loanBook(LoanRequest request) {
+        // 대출 중인 도서는 회원/도서를 읽기 전에 비트셋으로 먼저 거름 (최종 판단은 아래 DB 확인)
+        if (request.getBookId() != null && !bookAvailabilityIndex.isAvailable(request.getBookId())) {
             throw new IllegalStateException("Book is not available for loan");
         }
 
-        // 기존 대출 확인
-        Optional<Loan> existingLoan = loanRepository.findByBookIdAndStatus(book.getId(), LoanStatus.ACTIVE);
-        if (existingLoan.isPresent()) {
-            throw new IllegalStateException("Book is already loaned");
-        }
+        Member member = memberService.findByMemberName(getUsernameById(request.getUserId()))
+                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+
+        Book book = reserveCopy(request);
 
         LocalDateTime now = LocalDateTime.now();
         // loanDays 필드 사용하도록 수정
@@ -199,6 +296,66 @@ public class LoanService {
         book.loanOut();
 
         Loan savedLoan = loanRepository.save(loan);
+        changeLogWriter.record(ChangeTarget.BOOK, book.getId(), null);
+        // 검색 결과의 대출 상태가 바뀜
+        bookSearchCache.invalidateAfterCommit();
+        bookAvailabilityIndex.setAfterCommit(book.getId(), false);
+        domainEventBus.publishAfterCommit(LoanCreated.of(savedLoan));
         return convertToDto(savedLoan);
     }
-}
\ No newline at end of file
+
+    // 지정한 사본, 또는 타이틀의 아무 대출 가능 사본을 잡고 타이틀의 대출 가능 사본 수를 차감
+    // 두 경로 모두 타이틀 행(카운터 차감)을 먼저, 사본 행을 나중에 잠가 서로 교착되지 않게 함 (반납도 같은 순서)
+    private Book reserveCopy(LoanRequest request) {
+        if (request.getBookId() == null) {
+            if (request.getTitleId() == null) {
+                throw new IllegalArgumentException("Book or title is required");
+            }
+            if (!bookTitleService.claimCopy(request.getTitleId())) {
+                throw new IllegalStateException("No copies available for this title");
+            }
+            return bookTitleService.lockFreeCopy(request.getTitleId());
+        }
+
+        Long titleId = bookTitleService.findTitleId(request.getBookId()).orElse(null);
+        if (titleId != null && !bookTitleService.claimCopy(titleId)) {
+            throw new IllegalStateException("Book is not available for loan");
+        }
+
+        Book book = bookTitleService.lockCopy(request.getBookId())
+                .orElseThrow(() -> new IllegalArgumentException("Book not found"));
+
+        // 잠그기 전에 다른 타이틀로 옮겨졌으면 차감한 카운터가 맞지 않으므로 실패 (트랜잭션 롤백으로 복구)
+        Long lockedTitleId = book.getBookTitle() != null ? book.getBookTitle().getId() : null;
+        if (!Objects.equals(titleId, lockedTitleId)) {
+            throw new IllegalStateException("Book was moved to another title, please retry");
+        }
+
+        if (!book.isAvailable()) {
+            throw new IllegalStateException("Book is not available for loan");
+        }
+
+        // 기존 대출 확인
+        Optional<Loan> existingLoan = loanRepository.findByBookIdAndStatus(book.getId(), LoanStatus.ACTIVE);
+        if (existingLoan.isPresent()) {
+            throw new IllegalStateException("Book is already loaned");
+        }
+
+        return book;
+    }
+
+    // 잠그지 않고 읽은 상태로 판단하면 동시 반납이 둘 다 사본 수를 늘리므로, 전환은 조건부 UPDATE로 한 번만 성공
+    // (엔티티를 바꾸기 전에 실행해야 자동 flush가 먼저 RETURNED를 쓰지 않음)
+    private void markReturned(Loan loan) {
+        if (loanRepository.markReturned(loan.getId(), LoanStatus.ACTIVE, LoanStatus.RETURNED) != 1) {
+            throw new IllegalStateException("Book is already returned");
+        }
+        loan.returnBook();
+    }
+
+    private void releaseTitleCopy(Book book) {
+        if (book.getBookTitle() != null) {
+            bookTitleService.releaseCopy(book.getBookTitle().getId());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.librarysystem.service;
+
+import java.util.Arrays;
+
+// long -> long 개방 주소법 해시맵 (박싱 없음, 키 0은 빈 칸 표시로 사용하므로 넣을 수 없음)
+final class LongLongHashMap {
+
+    interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    LongLongHashMap() {
+        this(8);
+    }
+
+    LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+        keys = new long[capacity];
+        values = new long[capacity];
+    }
+
+    long get(long key) {
+        int index = indexOf(key);
+        return keys[index] == key ? values[index] : 0;
+    }
+
+    // 값에 delta를 더하고 더한 결과를 반환
+    long addTo(long key, long delta) {
+        if (key == 0) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        int index = indexOf(key);
+        if (keys[index] == key) {
+            return values[index] += delta;
+        }
+        keys[index] = key;
+        values[index] = delta;
+        if (++size * 4 > keys.length * 3) {
+            rehash(keys.length * 2);
+        }
+        return delta;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    // 값이 작은 항목부터 버려 최대 maxSize개만 남김 (같은 값은 함께 버려지므로 더 적게 남을 수 있음)
+    void retainLargest(int maxSize) {
+        if (size <= maxSize) {
+            return;
+        }
+        long[] sorted = new long[size];
+        int n = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                sorted[n++] = values[i];
+            }
+        }
+        Arrays.sort(sorted);
+        long threshold = sorted[size - maxSize - 1];
+
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[oldKeys.length];
+        values = new long[oldKeys.length];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0 && oldValues[i] > threshold) {
+                addTo(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (keys[index] != 0 && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[capacity];
+        values = new long[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.librarysystem.service;
+
+import java.util.function.LongFunction;
+
+// long -> 객체 개방 주소법 해시맵 (키 0은 빈 칸 표시로 사용하므로 넣을 수 없음)
+final class LongObjectHashMap<V> {
+
+    interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    private long[] keys = new long[16];
+    private Object[] values = new Object[16];
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int index = indexOf(key);
+        return keys[index] == key ? (V) values[index] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V computeIfAbsent(long key, LongFunction<V> factory) {
+        if (key == 0) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        int index = indexOf(key);
+        if (keys[index] == key) {
+            return (V) values[index];
+        }
+        V value = factory.apply(key);
+        keys[index] = key;
+        values[index] = value;
+        if (++size * 4 > keys.length * 3) {
+            rehash(keys.length * 2);
+        }
+        return value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEach(EntryConsumer<V> consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        int index = LongLongHashMap.mix(key) & mask;
+        while (keys[index] != 0 && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+}
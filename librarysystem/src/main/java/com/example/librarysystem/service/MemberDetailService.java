@@ -0,0 +1,117 @@
+package com.example.librarysystem.service;
+
+import com.example.librarysystem.domain.enums.LoanStatus;
+import com.example.librarysystem.dto.LoanDto;
+import com.example.librarysystem.dto.MemberDetailDto;
+import com.example.librarysystem.dto.MemberDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 회원 상세 화면의 여러 조회를 한 번에 처리
+//
+// 회원 정보, 현재 대출, 이관된 대출을 가상 스레드에서 동시에 읽고(각자 읽기 전용 트랜잭션),
+// 전체 대출 이력, 대출 중 목록, 통계는 같은 조회 결과에서 계산해 대출을 한 번만 읽음
+// 제한 시간이 지나면 그 조회는 기다리지 않고 failures에 남기며, 나머지 결과는 그대로 반환
+// 조회 스레드는 interrupt 하지 않음 (JDBC 도중 interrupt 되면 커넥션이 닫혀 풀에서 버려짐)
+// 대신 같은 제한 시간을 트랜잭션 timeout으로 걸어 늦은 조회는 쿼리 timeout으로 끝나게 함
+@Slf4j
+@Service
+public class MemberDetailService {
+
+    private final MemberService memberService;
+    private final LoanService loanService;
+    private final long timeoutMillis;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public MemberDetailService(MemberService memberService,
+                               LoanService loanService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${member-detail.timeout-ms:2000}") long timeoutMillis) {
+        this.memberService = memberService;
+        this.loanService = loanService;
+        this.timeoutMillis = timeoutMillis;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis + 999)));
+    }
+
+    // 회원이 없으면 empty
+    public Optional<MemberDetailDto> getMemberDetail(Long userId) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        Future<Optional<MemberDto>> member = fork(() -> memberService.getMemberById(userId));
+        Future<List<LoanDto>> current = fork(() -> loanService.getCurrentUserLoans(userId));
+        Future<List<LoanDto>> archived = fork(() -> loanService.getArchivedUserLoans(userId));
+
+        Map<String, String> failures = new LinkedHashMap<>();
+        Optional<MemberDto> user = join("user", member, deadline, failures);
+        if (user != null && user.isEmpty()) {
+            // 나머지 조회는 끝까지 실행되고 결과만 버림
+            return Optional.empty();
+        }
+        List<LoanDto> currentLoans = join("loans", current, deadline, failures);
+        List<LoanDto> archivedLoans = join("archivedLoans", archived, deadline, failures);
+
+        long elapsed = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        if (!failures.isEmpty()) {
+            log.warn("Member detail for {} returned partially in {} ms: {}", userId, elapsed, failures);
+        }
+        return Optional.of(MemberDetailDto.builder()
+                .user(user == null ? null : user.get())
+                .loans(currentLoans == null || archivedLoans == null ? null :
+                        LoanService.mergeLoansByLoanDateDesc(currentLoans, archivedLoans))
+                .activeLoans(currentLoans == null ? null : currentLoans.stream()
+                        .filter(loan -> loan.getStatus() == LoanStatus.ACTIVE)
+                        .toList())
+                .statistics(currentLoans == null || archivedLoans == null ? null :
+                        LoanService.statisticsOf(userId, currentLoans, archivedLoans.size()))
+                .failures(failures)
+                .elapsedMillis(elapsed)
+                .build());
+    }
+
+    // 각 조회는 제한 시간을 timeout으로 둔 읽기 전용 트랜잭션에서 실행 (서비스 메서드의 트랜잭션은 여기에 참여)
+    private <T> Future<T> fork(Supplier<T> task) {
+        return executor.submit(() -> readOnlyTransaction.execute(status -> task.get()));
+    }
+
+    // 공통 마감 시각까지 기다리고, 넘기면 null (조회들이 동시에 시작하므로 조회별 제한 시간이 곧 응답 시간의 상한)
+    private <T> T join(String name, Future<T> future, long deadline, Map<String, String> failures) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            failures.put(name, "timed out after " + timeoutMillis + " ms");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            failures.put(name, cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.put(name, "interrupted");
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
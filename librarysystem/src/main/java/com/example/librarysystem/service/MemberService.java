@@ -1,24 +1,53 @@
 package com.example.librarysystem.service;
 
+import com.example.librarysystem.changelog.ChangeLogWriter;
+import com.example.librarysystem.domain.Book;
 import com.example.librarysystem.domain.Member;
+import com.example.librarysystem.domain.enums.BookStatus;
+import com.example.librarysystem.domain.enums.ChangeTarget;
+import com.example.librarysystem.domain.enums.LoanStatus;
 import com.example.librarysystem.domain.enums.UserType;
 import com.example.librarysystem.dto.*;
+import com.example.librarysystem.event.BookChanged;
+import com.example.librarysystem.event.ChangeType;
+import com.example.librarysystem.event.DomainEventBus;
+import com.example.librarysystem.event.MemberChanged;
+import com.example.librarysystem.repository.ArchivedLoanRepository;
+import com.example.librarysystem.repository.BookRepository;
+import com.example.librarysystem.repository.LoanRepository;
+import com.example.librarysystem.repository.MemberLoanSummaryView;
 import com.example.librarysystem.repository.MemberRepository;
+import com.example.librarysystem.repository.RefreshTokenRepository;
+import com.example.librarysystem.repository.RefreshTokenStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 public class MemberService {
 
+    private static final Set<String> LOAN_COUNT_SORTS = Set.of("activeLoans", "overdueLoans");
+
     private final MemberRepository memberRepository;
+    private final LoanRepository loanRepository;
+    private final ArchivedLoanRepository archivedLoanRepository;
+    private final BookRepository bookRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenStore refreshTokenStore;
+    private final DomainEventBus domainEventBus;
+    private final ChangeLogWriter changeLogWriter;
+    private final BookSearchCache bookSearchCache;
+    private final BookAvailabilityIndex bookAvailabilityIndex;
+    private final BookTitleService bookTitleService;
 
     @Transactional(readOnly = true)
     public Page<MemberDto> getAllMembers(Pageable pageable) {
@@ -26,6 +55,36 @@ public class MemberService {
                 .map(this::convertToDto);
     }
 
+    // 회원 목록과 회원별 대출 중/연체 건수를 함께 조회
+    @Transactional(readOnly = true)
+    public Page<MemberLoanSummaryDto> getMembersWithLoanCounts(Pageable pageable) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 대출 건수로 정렬하면 집계 결과 자체로 페이지를 나눔
+        if (pageable.getSort().stream().anyMatch(order -> LOAN_COUNT_SORTS.contains(order.getProperty()))) {
+            return memberRepository.findAllWithLoanCounts(LoanStatus.ACTIVE, now, pageable)
+                    .map(this::convertToDto);
+        }
+
+        // 그 외에는 회원 페이지를 먼저 구하고 그 id들에 대해서만 한 번에 집계
+        Page<Member> members = memberRepository.findAll(pageable);
+        List<Long> ids = members.getContent().stream().map(Member::getId).toList();
+        Map<Long, long[]> counts = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Object[] row : loanRepository.countLoansByMemberIds(ids, LoanStatus.ACTIVE, now)) {
+                counts.put((Long) row[0], new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue()});
+            }
+        }
+
+        List<MemberLoanSummaryDto> content = members.getContent().stream()
+                .map(member -> {
+                    long[] count = counts.getOrDefault(member.getId(), new long[2]);
+                    return convertToDto(member, count[0], count[1]);
+                })
+                .toList();
+        return new PageImpl<>(content, pageable, members.getTotalElements());
+    }
+
     @Transactional(readOnly = true)
     public Optional<MemberDto> getMemberById(Long id) {
         return memberRepository.findById(id)
@@ -52,6 +111,8 @@ public class MemberService {
                 .build();
 
         Member savedMember = memberRepository.save(member);
+        changeLogWriter.record(ChangeTarget.MEMBER, savedMember.getId(), savedMember.getUsername());
+        domainEventBus.publishAfterCommit(MemberChanged.of(savedMember, ChangeType.CREATED));
         return convertToDto(savedMember);
     }
 
@@ -70,6 +131,8 @@ public class MemberService {
                 .build();
 
         Member savedMember = memberRepository.save(member);
+        changeLogWriter.record(ChangeTarget.MEMBER, savedMember.getId(), savedMember.getUsername());
+        domainEventBus.publishAfterCommit(MemberChanged.of(savedMember, ChangeType.CREATED));
         return convertToDto(savedMember);
     }
 
@@ -84,6 +147,11 @@ public class MemberService {
             throw new IllegalArgumentException("Username already exists");
         }
 
+        // 사용자명이 바뀌면 기존 이름으로 발급된 Refresh Token은 무효화
+        if (!member.getUsername().equals(request.getUsername())) {
+            refreshTokenStore.delete(member.getUsername());
+        }
+
         member.setUsername(request.getUsername());
         member.setContact(request.getContact());
         member.setMemo(request.getMemo());
@@ -93,12 +161,59 @@ public class MemberService {
         }
 
         Member savedMember = memberRepository.save(member);
+        changeLogWriter.record(ChangeTarget.MEMBER, savedMember.getId(), savedMember.getUsername());
+        domainEventBus.publishAfterCommit(MemberChanged.of(savedMember, ChangeType.UPDATED));
         return convertToDto(savedMember);
     }
 
     @Transactional
     public void deleteMember(Long id) {
-        memberRepository.deleteById(id);
+        deleteMembers(List.of(id));
+    }
+
+    // 참조하는 테이블부터 집합 단위로 지움
+    // 대출 중이던 도서는 대출 가능으로 되돌리고, 토큰은 users <-> refresh_tokens 상호 참조를 먼저 끊은 뒤 삭제
+    @Transactional
+    public int deleteMembers(Collection<Long> ids) {
+        List<Long> memberIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Long, String> usernames = new LinkedHashMap<>();
+        List<Long> releasedBookIds = new ArrayList<>();
+        int deleted = 0;
+
+        for (int from = 0; from < memberIds.size(); from += BookService.BULK_CHUNK_SIZE) {
+            List<Long> chunk = memberIds.subList(from, Math.min(from + BookService.BULK_CHUNK_SIZE, memberIds.size()));
+            for (Object[] row : memberRepository.findUsernamesByIdIn(chunk)) {
+                usernames.put((Long) row[0], (String) row[1]);
+            }
+
+            List<Long> bookIds = loanRepository.findBookIdsByMemberIdsAndStatus(chunk, LoanStatus.ACTIVE);
+            if (!bookIds.isEmpty()) {
+                bookRepository.updateStatusByIdIn(bookIds, BookStatus.AVAILABLE);
+                bookTitleService.releaseCopies(bookIds);
+                releasedBookIds.addAll(bookIds);
+            }
+
+            memberRepository.clearRefreshTokenByIdIn(chunk);
+            refreshTokenRepository.deleteByMemberIdIn(chunk);
+            archivedLoanRepository.deleteByMemberIdIn(chunk);
+            loanRepository.deleteByMemberIdIn(chunk);
+            deleted += memberRepository.deleteByIdIn(chunk);
+        }
+
+        usernames.values().forEach(refreshTokenStore::delete);
+        changeLogWriter.recordAll(ChangeTarget.MEMBER, usernames.keySet());
+        usernames.forEach((id, username) ->
+                domainEventBus.publishAfterCommit(new MemberChanged(id, username, ChangeType.DELETED)));
+
+        if (!releasedBookIds.isEmpty()) {
+            changeLogWriter.recordAll(ChangeTarget.BOOK, releasedBookIds);
+            bookSearchCache.invalidateAfterCommit();
+            for (Book book : bookRepository.findAllById(releasedBookIds)) {
+                bookAvailabilityIndex.setAfterCommit(book.getId(), book.isAvailable());
+                domainEventBus.publishAfterCommit(BookChanged.of(book, ChangeType.UPDATED));
+            }
+        }
+        return deleted;
     }
 
     private MemberDto convertToDto(Member member) {
@@ -110,4 +225,28 @@ public class MemberService {
                 .userType(member.getUserType())
                 .build();
     }
-}
\ No newline at end of file
+
+    private MemberLoanSummaryDto convertToDto(Member member, long activeLoans, long overdueLoans) {
+        return MemberLoanSummaryDto.builder()
+                .id(member.getId())
+                .username(member.getUsername())
+                .contact(member.getContact())
+                .memo(member.getMemo())
+                .userType(member.getUserType())
+                .activeLoans(activeLoans)
+                .overdueLoans(overdueLoans)
+                .build();
+    }
+
+    private MemberLoanSummaryDto convertToDto(MemberLoanSummaryView view) {
+        return MemberLoanSummaryDto.builder()
+                .id(view.getId())
+                .username(view.getUsername())
+                .contact(view.getContact())
+                .memo(view.getMemo())
+                .userType(view.getUserType())
+                .activeLoans(view.getActiveLoans())
+                .overdueLoans(view.getOverdueLoans())
+                .build();
+    }
+}
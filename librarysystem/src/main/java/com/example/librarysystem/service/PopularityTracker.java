@@ -0,0 +1,202 @@
+package com.example.librarysystem.service;
+
+import com.example.librarysystem.dto.PopularItemDto;
+import com.example.librarysystem.dto.PopularityReport;
+import com.example.librarysystem.event.DomainEventConsumer;
+import com.example.librarysystem.event.LoanCreated;
+import com.example.librarysystem.event.SequencedEvent;
+import com.example.librarysystem.journal.CirculationJournalRecorder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+// 대출 이벤트로 기간별 인기 도서/저자/출판사를 고정 메모리로 집계 (loans 테이블을 다시 읽지 않음)
+//
+// 시간 버킷마다 Space-Saving 요약(후보)과 Count-Min 스케치(빈도 추정)를 두고,
+// 조회 시 기간에 속한 버킷의 스케치를 합쳐 후보들의 대출 수를 추정
+// 일 단위는 시간 버킷 24개, 주/월 단위는 일 버킷 7/30개 (가장 오래된 버킷은 버킷 경계까지만 포함)
+// 버스 이벤트만 보므로 노드마다 자기 노드에서 일어난 대출만 집계
+@Slf4j
+@Component
+public class PopularityTracker implements DomainEventConsumer {
+
+    public enum Window {
+        DAY, WEEK, MONTH
+    }
+
+    public enum Dimension {
+        BOOK, AUTHOR, PUBLISHER
+    }
+
+    private static final long HOUR_SECONDS = 3600;
+    private static final long DAY_SECONDS = 86400;
+
+    private final ObjectProvider<CirculationJournalRecorder> journalRecorder;
+    private final int capacity;
+    private final double epsilon;
+    private final double confidence;
+    private final boolean warmupFromJournal;
+    // 이 시각 이전 대출은 저널에서, 이후는 버스에서 받음
+    private final Instant startedAt = Instant.now();
+
+    private final Bucket[] hourly = new Bucket[24];
+    private final Bucket[] daily = new Bucket[31];
+    private long lastSequence = -1;
+
+    public PopularityTracker(ObjectProvider<CirculationJournalRecorder> journalRecorder,
+                             @Value("${popularity.capacity:200}") int capacity,
+                             @Value("${popularity.epsilon:0.002}") double epsilon,
+                             @Value("${popularity.confidence:0.99}") double confidence,
+                             @Value("${popularity.warmup-from-journal:true}") boolean warmupFromJournal) {
+        this.journalRecorder = journalRecorder;
+        this.capacity = capacity;
+        this.epsilon = epsilon;
+        this.confidence = confidence;
+        this.warmupFromJournal = warmupFromJournal;
+    }
+
+    private final class Bucket {
+        final long epoch;
+        final Map<Dimension, SpaceSaving<Object>> summaries = new EnumMap<>(Dimension.class);
+        final Map<Dimension, CountMinSketch> sketches = new EnumMap<>(Dimension.class);
+
+        Bucket(long epoch) {
+            this.epoch = epoch;
+            for (Dimension dimension : Dimension.values()) {
+                summaries.put(dimension, new SpaceSaving<>(capacity));
+                sketches.put(dimension, CountMinSketch.forError(epsilon, confidence));
+            }
+        }
+
+        void add(Dimension dimension, Object key, String label) {
+            summaries.get(dimension).offer(key, label);
+            sketches.get(dimension).add(key);
+        }
+    }
+
+    // 기동 전 한 달치 대출을 저널에서 다시 흘려 넣어 재기동 후에도 순위가 비지 않도록 함
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        CirculationJournalRecorder recorder = journalRecorder.getIfAvailable();
+        if (!warmupFromJournal || recorder == null) {
+            return;
+        }
+        Thread.ofVirtual().name("popularity-warmup").start(() -> {
+            try {
+                long replayed = recorder.replay(startedAt.minus(Duration.ofDays(daily.length)), startedAt, this::record);
+                log.info("Popularity tracker warmed up from {} journal events", replayed);
+            } catch (Exception e) {
+                log.warn("Popularity tracker warm-up failed", e);
+            }
+        });
+    }
+
+    @Override
+    public void onEvents(List<SequencedEvent> batch) {
+        List<SequencedEvent> fresh = new ArrayList<>(batch.size());
+        for (SequencedEvent sequenced : batch) {
+            // 재전달된 배치는 한 번만 셈
+            if (sequenced.sequence() > lastSequence) {
+                fresh.add(sequenced);
+                lastSequence = sequenced.sequence();
+            }
+        }
+        record(fresh);
+    }
+
+    private synchronized void record(List<SequencedEvent> batch) {
+        long now = Instant.now().getEpochSecond();
+        for (SequencedEvent sequenced : batch) {
+            if (!(sequenced.event() instanceof LoanCreated loan)) {
+                continue;
+            }
+            long at = sequenced.publishedAt().getEpochSecond();
+            for (Bucket bucket : new Bucket[]{
+                    bucketFor(hourly, Math.floorDiv(at, HOUR_SECONDS), Math.floorDiv(now, HOUR_SECONDS)),
+                    bucketFor(daily, Math.floorDiv(at, DAY_SECONDS), Math.floorDiv(now, DAY_SECONDS))}) {
+                if (bucket == null) {
+                    continue;
+                }
+                bucket.add(Dimension.BOOK, loan.bookId(), loan.title());
+                if (loan.author() != null) {
+                    bucket.add(Dimension.AUTHOR, loan.author(), loan.author());
+                }
+                if (loan.publisher() != null) {
+                    bucket.add(Dimension.PUBLISHER, loan.publisher(), loan.publisher());
+                }
+            }
+        }
+    }
+
+    // 링에서 epoch 자리의 버킷 (지난 주기의 버킷이면 새로 만들고, 링보다 오래된 이벤트는 버림)
+    private Bucket bucketFor(Bucket[] ring, long epoch, long currentEpoch) {
+        if (epoch <= currentEpoch - ring.length || epoch > currentEpoch) {
+            return null;
+        }
+        int index = (int) Math.floorMod(epoch, (long) ring.length);
+        Bucket bucket = ring[index];
+        if (bucket == null || bucket.epoch < epoch) {
+            bucket = new Bucket(epoch);
+            ring[index] = bucket;
+        } else if (bucket.epoch > epoch) {
+            return null;
+        }
+        return bucket;
+    }
+
+    public synchronized PopularityReport top(Window window, Dimension dimension, int limit) {
+        long now = Instant.now().getEpochSecond();
+        Bucket[] ring = window == Window.DAY ? hourly : daily;
+        long unit = window == Window.DAY ? HOUR_SECONDS : DAY_SECONDS;
+        int span = switch (window) {
+            case DAY -> 24;
+            case WEEK -> 7;
+            case MONTH -> 30;
+        };
+        long firstEpoch = Math.floorDiv(now, unit) - span + 1;
+
+        CountMinSketch merged = CountMinSketch.forError(epsilon, confidence);
+        Map<Object, String> candidates = new HashMap<>();
+        for (Bucket bucket : ring) {
+            if (bucket == null || bucket.epoch < firstEpoch) {
+                continue;
+            }
+            merged.merge(bucket.sketches.get(dimension));
+            for (SpaceSaving.Counter<Object> counter : bucket.summaries.get(dimension).counters()) {
+                candidates.put(counter.key, counter.label);
+            }
+        }
+
+        long errorBound = merged.errorBound();
+        List<PopularItemDto> items = candidates.entrySet().stream()
+                .map(candidate -> {
+                    long estimated = merged.estimate(candidate.getKey());
+                    return PopularItemDto.builder()
+                            .bookId(dimension == Dimension.BOOK ? (Long) candidate.getKey() : null)
+                            .name(candidate.getValue())
+                            .estimatedLoans(estimated)
+                            .minLoans(Math.max(0, estimated - errorBound))
+                            .build();
+                })
+                .sorted(Comparator.comparingLong(PopularItemDto::getEstimatedLoans).reversed())
+                .limit(limit)
+                .toList();
+
+        return PopularityReport.builder()
+                .window(window.name())
+                .dimension(dimension.name())
+                .from(Instant.ofEpochSecond(firstEpoch * unit))
+                .totalLoans(merged.total())
+                .errorBound(errorBound)
+                .confidence(confidence)
+                .items(items)
+                .build();
+    }
+}
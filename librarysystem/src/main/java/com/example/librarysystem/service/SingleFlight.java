@@ -0,0 +1,111 @@
+package com.example.librarysystem.service;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 같은 키로 동시에 들어온 호출 중 하나만 실제로 실행하고 나머지는 그 결과를 함께 받음
+// 키 하나에 기다릴 수 있는 호출 수와 대기 시간을 제한해 느린 실행 뒤에 대기자가 끝없이 쌓이지 않도록 함
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, Call<V>> calls = new ConcurrentHashMap<>();
+    private final int maxWaiters;
+    private final long timeoutNanos;
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    private static final class Call<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+    }
+
+    // 대기자 수 초과 또는 대기 시간 초과
+    public static class RejectedException extends IllegalStateException {
+        public RejectedException(String message) {
+            super(message);
+        }
+    }
+
+    public SingleFlight(int maxWaiters, Duration timeout) {
+        this.maxWaiters = maxWaiters;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        Call<V> call = new Call<>();
+        Call<V> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight == null) {
+            return lead(key, call, loader);
+        }
+        return await(inFlight);
+    }
+
+    private V lead(K key, Call<V> call, Supplier<V> loader) {
+        executions.increment();
+        try {
+            V value = loader.get();
+            call.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    private V await(Call<V> call) {
+        if (call.waiters.incrementAndGet() > maxWaiters) {
+            call.waiters.decrementAndGet();
+            rejected.increment();
+            throw new RejectedException("Too many identical requests in flight");
+        }
+        try {
+            V value = call.result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            shared.increment();
+            return value;
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            throw new RejectedException("Timed out waiting for an identical request");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedException("Interrupted while waiting for an identical request");
+        } catch (ExecutionException e) {
+            // 먼저 실행한 호출의 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            call.waiters.decrementAndGet();
+        }
+    }
+
+    public int getInFlight() {
+        return calls.size();
+    }
+
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    public long getShared() {
+        return shared.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getTimedOut() {
+        return timedOut.sum();
+    }
+}
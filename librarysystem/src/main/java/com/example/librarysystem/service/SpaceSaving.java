@@ -0,0 +1,58 @@
+package com.example.librarysystem.service;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+// 최대 capacity개 항목만 세는 Space-Saving 요약
+// 가득 차면 가장 작은 카운터를 새 항목에 넘겨주므로, 빈도가 capacity분의 1을 넘는 항목은 반드시 남음
+final class SpaceSaving<K> {
+
+    static final class Counter<K> {
+        final K key;
+        final long order;
+        String label;
+        long count;
+        long error;     // 넘겨받은 카운터 값 (count - error 이상은 실제로 나옴)
+
+        Counter(K key, long order) {
+            this.key = key;
+            this.order = order;
+        }
+    }
+
+    private final int capacity;
+    private final Map<K, Counter<K>> counters = new HashMap<>();
+    private final TreeSet<Counter<K>> byCount = new TreeSet<>(
+            Comparator.<Counter<K>>comparingLong(counter -> counter.count).thenComparingLong(counter -> counter.order));
+    private long nextOrder;
+
+    SpaceSaving(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void offer(K key, String label) {
+        Counter<K> counter = counters.get(key);
+        if (counter == null) {
+            counter = new Counter<>(key, nextOrder++);
+            if (counters.size() >= capacity) {
+                Counter<K> min = byCount.pollFirst();
+                counters.remove(min.key);
+                counter.count = min.count;
+                counter.error = min.count;
+            }
+            counters.put(key, counter);
+        } else {
+            byCount.remove(counter);
+        }
+        counter.count++;
+        counter.label = label;
+        byCount.add(counter);
+    }
+
+    Collection<Counter<K>> counters() {
+        return counters.values();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.librarysystem.slowquery;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// 바인드 자리(?)마다 값이 들어가는 컬럼을 SQL에서 찾아, 민감한 컬럼(비밀번호 해시, 리프레시 토큰)이면 가림
+//
+// INSERT는 컬럼 목록과 VALUES를 순서대로 맞추고, 그 밖에는 "컬럼 = ?" 처럼 바로 앞의 비교 대상 컬럼을 봄
+// 컬럼을 알 수 없는 자리는 SQL에 민감한 컬럼이 하나라도 나오면 가림
+final class BindRedactor {
+
+    static final String REDACTED = "<redacted>";
+
+    private static final Pattern INSERT = Pattern.compile(
+            "^\\s*insert\\s+into\\s+[\\w.\"]+\\s*\\(([^)]*)\\)\\s*values\\s*\\((.*)\\)\\s*;?\\s*$",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern COMPARED = Pattern.compile(
+            "([\\w.\"]+)\\s*(?:=|<>|!=|<=|>=|<|>|\\slike)\\s*$", Pattern.CASE_INSENSITIVE);
+
+    private final Set<String> columns;
+    private final Pattern mentioned;
+
+    BindRedactor(Collection<String> columns) {
+        this.columns = columns.stream()
+                .map(column -> column.strip().toLowerCase(Locale.ROOT))
+                .filter(column -> !column.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.mentioned = this.columns.isEmpty() ? null : Pattern.compile(
+                this.columns.stream().map(Pattern::quote).collect(Collectors.joining("|", "\\b(?:", ")\\b")),
+                Pattern.CASE_INSENSITIVE);
+    }
+
+    // 가려야 하는 바인드 자리 (JDBC 파라미터 번호, 1부터)
+    Set<Integer> sensitivePositions(String sql) {
+        if (mentioned == null || !mentioned.matcher(sql).find()) {
+            return Set.of();
+        }
+        List<String> targets = bindColumns(sql);
+        Set<Integer> positions = new HashSet<>();
+        for (int i = 0; i < targets.size(); i++) {
+            String column = targets.get(i);
+            if (column == null || columns.contains(column)) {
+                positions.add(i + 1);
+            }
+        }
+        return positions;
+    }
+
+    // 자리 순서대로 값이 들어가는 컬럼 (알 수 없으면 null)
+    private static List<String> bindColumns(String sql) {
+        Matcher insert = INSERT.matcher(sql);
+        if (insert.matches()) {
+            List<String> names = splitTopLevel(insert.group(1));
+            List<String> values = splitTopLevel(insert.group(2));
+            if (names.size() == values.size()) {
+                List<String> targets = new ArrayList<>();
+                for (int i = 0; i < names.size(); i++) {
+                    String column = columnName(names.get(i));
+                    for (int j = 0; j < placeholders(values.get(i)).size(); j++) {
+                        targets.add(column);
+                    }
+                }
+                return targets;
+            }
+        }
+        List<String> targets = new ArrayList<>();
+        for (int position : placeholders(sql)) {
+            Matcher compared = COMPARED.matcher(sql.substring(0, position));
+            targets.add(compared.find() ? columnName(compared.group(1)) : null);
+        }
+        return targets;
+    }
+
+    // 문자열 리터럴 밖의 ? 위치
+    private static List<Integer> placeholders(String sql) {
+        List<Integer> positions = new ArrayList<>();
+        boolean quoted = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (c == '?' && !quoted) {
+                positions.add(i);
+            }
+        }
+        return positions;
+    }
+
+    // 괄호와 문자열 리터럴 밖의 쉼표로 나눔
+    private static List<String> splitTopLevel(String text) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == '(') {
+                depth++;
+            } else if (!quoted && c == ')') {
+                depth--;
+            } else if (!quoted && depth == 0 && c == ',') {
+                parts.add(text.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(text.substring(start));
+        return parts;
+    }
+
+    // "u1_0.password", "\"PASSWORD\"" -> "password"
+    private static String columnName(String reference) {
+        String name = reference.strip();
+        name = name.substring(name.lastIndexOf('.') + 1).replace("\"", "");
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
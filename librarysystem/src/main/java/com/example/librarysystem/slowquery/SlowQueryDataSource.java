@@ -0,0 +1,65 @@
+package com.example.librarysystem.slowquery;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// 커넥션이 만드는 Statement를 StatementCapture로 감싸는 DataSource
+// EXPLAIN은 감싸지 않은 원래 DataSource로 실행해 다시 기록되지 않게 함
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private final SlowQueryRecorder recorder;
+
+    public SlowQueryDataSource(DataSource target, SlowQueryRecorder recorder) {
+        super(target);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        ConnectionHandler handler = new ConnectionHandler(connection);
+        Connection proxy = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+        handler.proxy = proxy;
+        return proxy;
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private Connection proxy;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object self, Method method, Object[] args) throws Throwable {
+            if (StatementCapture.isIdentityMethod(method)) {
+                return StatementCapture.identity(self, method, args);
+            }
+            Object result = StatementCapture.call(target, method, args);
+            String name = method.getName();
+            if (result instanceof Statement statement && (name.startsWith("prepare") || name.equals("createStatement"))) {
+                String sql = name.startsWith("prepare") ? (String) args[0] : null;
+                return StatementCapture.wrap(statement, method.getReturnType(), sql, proxy, getTargetDataSource(), recorder);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.librarysystem.slowquery;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// JPA가 쓰는 "dataSource" 빈만 감쌈 (라우팅 구성이면 라우팅 프록시 바깥, 풀 빈과 모니터링 빈은 그대로)
+@Component
+@ConditionalOnProperty(name = "slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SlowQueryRecorder> recorder;
+
+    // BeanPostProcessor는 일찍 생성되므로 recorder는 감쌀 때 가져옴
+    public SlowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryRecorder> recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                && !(bean instanceof SlowQueryDataSource)) {
+            return new SlowQueryDataSource(dataSource, recorder.getObject());
+        }
+        return bean;
+    }
+}
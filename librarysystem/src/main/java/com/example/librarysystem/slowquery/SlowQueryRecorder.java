@@ -0,0 +1,200 @@
+package com.example.librarysystem.slowquery;
+
+import com.example.librarysystem.config.SlowQueryProperties;
+import com.example.librarysystem.dto.SlowQueryDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.Temporal;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 기준 시간을 넘긴 SQL을 최근 capacity건까지 메모리에 보관
+//
+// 가장 낮은 기준보다 빠른 쿼리는 시간 비교만 하고 끝나며, 넘긴 경우에만 스택에서 호출 메서드를 찾아 그 메서드의 기준과 비교
+// SELECT는 같은 바인드 값으로 EXPLAIN을 별도 스레드에서 실행해 기록에 붙임 (대기열이 차면 생략)
+// 기록은 관리자 API로 노출되므로 redact-columns 컬럼에 들어가는 바인드 값은 가려서 보관
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryRecorder {
+
+    private static final String APPLICATION_PACKAGE = "com.example.librarysystem.";
+    private static final String OWN_PACKAGE = SlowQueryRecorder.class.getPackageName() + ".";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    // 보관 중인 기록 (plan은 EXPLAIN 스레드가 나중에 채움)
+    private static final class SlowQuery {
+        final String caller;
+        final SlowQueryDto.SlowQueryDtoBuilder dto;
+        volatile String plan;
+        volatile String planError;
+
+        SlowQuery(String caller, SlowQueryDto.SlowQueryDtoBuilder dto) {
+            this.caller = caller;
+            this.dto = dto;
+        }
+
+        SlowQueryDto toDto() {
+            return dto.plan(plan).planError(planError).build();
+        }
+    }
+
+    private final SlowQueryProperties properties;
+    private final long minThresholdNanos;
+    private final BindRedactor redactor;
+    private final Deque<SlowQuery> recent = new ArrayDeque<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ThreadPoolExecutor explainExecutor;
+
+    public SlowQueryRecorder(SlowQueryProperties properties) {
+        this.properties = properties;
+        long minMillis = properties.getThresholds().values().stream()
+                .reduce(properties.getThresholdMs(), Math::min);
+        this.minThresholdNanos = TimeUnit.MILLISECONDS.toNanos(minMillis);
+        this.redactor = new BindRedactor(properties.getRedactColumns());
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getExplainQueueSize())),
+                runnable -> Thread.ofPlatform().name("slow-query-explain").daemon().unstarted(runnable));
+    }
+
+    void record(String sql, Map<Integer, Object> binds, long rows, int batchSize, long elapsedNanos, DataSource dataSource) {
+        if (elapsedNanos < minThresholdNanos || sql == null) {
+            return;
+        }
+        String caller = caller();
+        long threshold = properties.getThresholds().getOrDefault(caller, properties.getThresholdMs());
+        if (elapsedNanos < TimeUnit.MILLISECONDS.toNanos(threshold)) {
+            return;
+        }
+
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        SlowQuery query = new SlowQuery(caller, SlowQueryDto.builder()
+                .id(sequence.incrementAndGet())
+                .capturedAt(LocalDateTime.now())
+                .caller(caller)
+                .sql(sql)
+                .binds(properties.isCaptureBinds() ? display(sql, binds) : List.of())
+                .rows(rows)
+                .batchSize(batchSize)
+                .durationMillis(durationMillis)
+                .thresholdMillis(threshold));
+        synchronized (recent) {
+            recent.addFirst(query);
+            while (recent.size() > properties.getCapacity()) {
+                recent.removeLast();
+            }
+        }
+        log.warn("Slow query from {} took {} ms ({} rows): {}", caller, durationMillis, rows, sql);
+
+        if (properties.isExplain() && isSelect(sql)) {
+            explain(query, sql, new TreeMap<>(binds), dataSource);
+        }
+    }
+
+    // 최신순, caller가 있으면 그 메서드의 기록만
+    public List<SlowQueryDto> getRecent(int limit, String caller) {
+        List<SlowQuery> snapshot;
+        synchronized (recent) {
+            snapshot = recent.stream()
+                    .filter(query -> caller == null || caller.equals(query.caller))
+                    .limit(limit)
+                    .toList();
+        }
+        return snapshot.stream().map(SlowQuery::toDto).toList();
+    }
+
+    public void clear() {
+        synchronized (recent) {
+            recent.clear();
+        }
+    }
+
+    private void explain(SlowQuery query, String sql, Map<Integer, Object> binds, DataSource dataSource) {
+        if (!binds.values().stream().allMatch(SlowQueryRecorder::isReplayable)) {
+            query.planError = "binds cannot be replayed";
+            return;
+        }
+        try {
+            explainExecutor.execute(() -> {
+                try (Connection connection = dataSource.getConnection();
+                     PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                    for (Map.Entry<Integer, Object> bind : binds.entrySet()) {
+                        statement.setObject(bind.getKey(), bind.getValue());
+                    }
+                    StringBuilder plan = new StringBuilder();
+                    try (ResultSet rs = statement.executeQuery()) {
+                        while (rs.next()) {
+                            plan.append(rs.getString(1)).append('\n');
+                        }
+                    }
+                    query.plan = plan.toString().strip();
+                } catch (SQLException | RuntimeException e) {
+                    query.planError = e.getMessage();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            query.planError = "explain queue full";
+        }
+    }
+
+    // 이 패키지를 제외한 첫 애플리케이션 프레임 (커밋 시 flush 처럼 메서드가 이미 끝났으면 Spring 프록시 프레임의 이름을 씀)
+    private static String caller() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(OWN_PACKAGE))
+                .findFirst()
+                .map(frame -> {
+                    String className = frame.getClassName();
+                    int proxy = className.indexOf("$$");
+                    if (proxy >= 0) {
+                        className = className.substring(0, proxy);
+                    }
+                    return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+                })
+                .orElse("unknown"));
+    }
+
+    private List<String> display(String sql, Map<Integer, Object> binds) {
+        Set<Integer> redacted = redactor.sensitivePositions(sql);
+        List<String> values = new ArrayList<>(binds.size());
+        for (Map.Entry<Integer, Object> bind : binds.entrySet()) {
+            if (redacted.contains(bind.getKey())) {
+                values.add(BindRedactor.REDACTED);
+                continue;
+            }
+            Object value = bind.getValue();
+            String text = value instanceof byte[] bytes ? "<" + bytes.length + " bytes>" : String.valueOf(value);
+            values.add(text.length() > properties.getMaxBindLength() ?
+                    text.substring(0, properties.getMaxBindLength()) + "..." : text);
+        }
+        return values;
+    }
+
+    private static boolean isReplayable(Object value) {
+        return value == null || value instanceof Number || value instanceof CharSequence || value instanceof Boolean
+                || value instanceof java.util.Date || value instanceof Temporal || value instanceof UUID;
+    }
+
+    private static boolean isSelect(String sql) {
+        String trimmed = sql.stripLeading();
+        return trimmed.regionMatches(true, 0, "select", 0, 6) || trimmed.regionMatches(true, 0, "with", 0, 4);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.librarysystem.slowquery;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Statement 호출을 가로채 SQL, 바인드 값, 실행 시간, 행 수를 모아 SlowQueryRecorder에 넘김
+//
+// 조회 시간은 execute와 ResultSet.next() 안에서 보낸 시간의 합 (엔티티 조립 시간은 제외),
+// 행 수는 next()가 true를 돌려준 횟수이며 ResultSet이나 Statement가 닫힐 때 기록
+final class StatementCapture implements InvocationHandler {
+
+    private final Statement target;
+    private final Connection connection;
+    private final DataSource dataSource;
+    private final SlowQueryRecorder recorder;
+    private final String sql;
+    private final Map<Integer, Object> binds = new TreeMap<>();
+    private Map<Integer, Object> firstBatch;
+    private String batchSql;
+    private int batchSize;
+    private ResultCapture openResult;
+
+    private StatementCapture(Statement target, String sql, Connection connection, DataSource dataSource,
+                             SlowQueryRecorder recorder) {
+        this.target = target;
+        this.sql = sql;
+        this.connection = connection;
+        this.dataSource = dataSource;
+        this.recorder = recorder;
+    }
+
+    static Statement wrap(Statement statement, Class<?> type, String sql, Connection connection,
+                          DataSource dataSource, SlowQueryRecorder recorder) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{type},
+                new StatementCapture(statement, sql, connection, dataSource, recorder));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (isIdentityMethod(method)) {
+            return identity(proxy, method, args);
+        }
+        if (name.startsWith("execute")) {
+            return execute(method, args);
+        }
+        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+            binds.put(index, name.equals("setNull") ? null : args[1]);
+        } else if (name.equals("clearParameters")) {
+            binds.clear();
+        } else if (name.equals("addBatch")) {
+            if (firstBatch == null) {
+                firstBatch = new TreeMap<>(binds);
+                batchSql = args != null && args.length > 0 ? (String) args[0] : sql;
+            }
+            batchSize++;
+        } else if (name.equals("clearBatch")) {
+            firstBatch = null;
+            batchSize = 0;
+        } else if (name.equals("getConnection")) {
+            return connection;
+        } else if (name.equals("close")) {
+            finishOpenResult();
+        }
+        return call(target, method, args);
+    }
+
+    private Object execute(Method method, Object[] args) throws Throwable {
+        String statementSql = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+        long startedAt = System.nanoTime();
+        Object result = call(target, method, args);
+        long elapsed = System.nanoTime() - startedAt;
+
+        switch (method.getName()) {
+            case "executeQuery" -> {
+                finishOpenResult();
+                openResult = new ResultCapture((ResultSet) result, statementSql, new TreeMap<>(binds), elapsed);
+                return Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class}, openResult);
+            }
+            case "executeBatch", "executeLargeBatch" -> {
+                recorder.record(batchSql != null ? batchSql : statementSql, firstBatch != null ? firstBatch : binds,
+                        sum(result), batchSize, elapsed, dataSource);
+                firstBatch = null;
+                batchSql = null;
+                batchSize = 0;
+            }
+            case "executeUpdate", "executeLargeUpdate" ->
+                    recorder.record(statementSql, binds, ((Number) result).longValue(), 0, elapsed, dataSource);
+            default -> recorder.record(statementSql, binds, -1, 0, elapsed, dataSource);
+        }
+        return result;
+    }
+
+    private void finishOpenResult() {
+        if (openResult != null) {
+            openResult.finish();
+            openResult = null;
+        }
+    }
+
+    private static long sum(Object counts) {
+        long total = 0;
+        if (counts instanceof int[] values) {
+            for (int value : values) {
+                total += Math.max(value, 0);
+            }
+        } else if (counts instanceof long[] values) {
+            for (long value : values) {
+                total += Math.max(value, 0);
+            }
+        }
+        return total;
+    }
+
+    // 프록시를 키로 쓰는 풀/레지스트리를 위해 equals, hashCode는 프록시 자신 기준
+    static boolean isIdentityMethod(Method method) {
+        return method.getDeclaringClass() == Object.class
+                && (method.getName().equals("equals") || method.getName().equals("hashCode"));
+    }
+
+    static Object identity(Object proxy, Method method, Object[] args) {
+        return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    static Object call(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class ResultCapture implements InvocationHandler {
+
+        private final ResultSet target;
+        private final String resultSql;
+        private final Map<Integer, Object> resultBinds;     // 다 읽기 전에 Statement가 재사용될 수 있으므로 실행 시점 값
+        private long nanos;
+        private long rows;
+        private boolean finished;
+
+        ResultCapture(ResultSet target, String resultSql, Map<Integer, Object> resultBinds, long executeNanos) {
+            this.target = target;
+            this.resultSql = resultSql;
+            this.resultBinds = resultBinds;
+            this.nanos = executeNanos;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            if (name.equals("next")) {
+                long startedAt = System.nanoTime();
+                Object result = call(target, method, args);
+                nanos += System.nanoTime() - startedAt;
+                if (Boolean.TRUE.equals(result)) {
+                    rows++;
+                }
+                return result;
+            }
+            if (name.equals("close")) {
+                try {
+                    return call(target, method, args);
+                } finally {
+                    finish();
+                }
+            }
+            return call(target, method, args);
+        }
+
+        void finish() {
+            if (!finished) {
+                finished = true;
+                recorder.record(resultSql, resultBinds, rows, 0, nanos, dataSource);
+            }
+        }
+    }
+}
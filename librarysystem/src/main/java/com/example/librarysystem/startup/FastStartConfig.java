@@ -0,0 +1,21 @@
+package com.example.librarysystem.startup;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+// spring.main.lazy-initialization=true 에서도 기동 시 바로 만들어야 하는 빈 지정
+@Configuration
+public class FastStartConfig {
+
+    // @Scheduled 메서드는 빈이 만들어질 때 등록되므로, 지연 생성되면 스케줄 작업이 시작되지 않음
+    @Bean
+    static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && !MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Scheduled>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class)).isEmpty();
+    }
+}
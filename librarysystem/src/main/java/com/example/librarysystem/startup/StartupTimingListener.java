@@ -0,0 +1,34 @@
+package com.example.librarysystem.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// JVM 시작부터 기동 완료/첫 요청 처리까지 걸린 시간 기록
+@Slf4j
+@Component
+public class StartupTimingListener {
+
+    private final AtomicBoolean firstRequestHandled = new AtomicBoolean(false);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        log.info("Application ready {} ms after JVM start", sinceJvmStart());
+    }
+
+    @EventListener(ServletRequestHandledEvent.class)
+    public void onRequestHandled(ServletRequestHandledEvent event) {
+        if (firstRequestHandled.compareAndSet(false, true)) {
+            log.info("First request ({}) handled {} ms after JVM start", event.getRequestUrl(), sinceJvmStart());
+        }
+    }
+
+    private static long sinceJvmStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.librarysystem.stream;
+
+import com.example.librarysystem.changelog.ChangeLogListener;
+import com.example.librarysystem.domain.ChangeLogEntry;
+import com.example.librarysystem.domain.enums.BookStatus;
+import com.example.librarysystem.domain.enums.ChangeTarget;
+import com.example.librarysystem.domain.enums.LoanStatus;
+import com.example.librarysystem.dto.CirculationStreamStats;
+import com.example.librarysystem.event.BookChanged;
+import com.example.librarysystem.event.ChangeType;
+import com.example.librarysystem.event.DomainEventConsumer;
+import com.example.librarysystem.event.LoanCreated;
+import com.example.librarysystem.event.LoanReturned;
+import com.example.librarysystem.event.SequencedEvent;
+import com.example.librarysystem.repository.BookRepository;
+import com.example.librarysystem.repository.LoanRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 도서 대출 가능 상태, 대출, 반납, 연체 전환을 SSE로 관리자 화면에 보냄 (목록 폴링 대신)
+//
+// 이 노드의 변경은 커밋 후 발행된 도메인 이벤트에서, 다른 노드의 변경은 change_log에서 받음
+// (change_log에는 도서 id만 남으므로 다른 노드의 대출/반납은 도서 상태 변경으로만 전달)
+// 연체 전환은 이벤트가 없으므로 주기적으로 직전 검사 이후 반납 예정일이 지난 대출을 찾아 보냄
+@Slf4j
+@Component
+public class CirculationEventStream implements DomainEventConsumer, ChangeLogListener {
+
+    public record BookStatusEvent(long id, String status) {
+    }
+
+    public record LoanEvent(long loanId, long bookId, long memberId, LocalDateTime dueDate) {
+    }
+
+    public record ReturnEvent(long loanId, long bookId, long memberId, LocalDateTime returnDate) {
+    }
+
+    public record OverdueEvent(long loanId, long bookId, long memberId, LocalDateTime dueDate) {
+    }
+
+    private static final String DELETED = "DELETED";
+
+    private final LoanRepository loanRepository;
+    private final BookRepository bookRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long heartbeatMillis;
+
+    private final Set<StreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger slots = new AtomicInteger();    // max-subscribers 검사와 등록을 한 번에 하기 위한 자리 수
+    private final AtomicLong nextId = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong overflows = new AtomicLong();
+    private volatile LocalDateTime lastOverdueScan = LocalDateTime.now();
+
+    public CirculationEventStream(LoanRepository loanRepository,
+                                  BookRepository bookRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${circulation-stream.buffer-size:256}") int bufferSize,
+                                  @Value("${circulation-stream.max-subscribers:500}") int maxSubscribers,
+                                  @Value("${circulation-stream.timeout-ms:1800000}") long timeoutMillis,
+                                  @Value("${circulation-stream.heartbeat-ms:15000}") long heartbeatMillis) {
+        this.loanRepository = loanRepository;
+        this.bookRepository = bookRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+    }
+
+    // 재연결이면(Last-Event-ID 있음) 놓친 이벤트를 다시 보낼 수 없으므로 resync부터 보냄
+    public SseEmitter subscribe(boolean reconnect) {
+        if (slots.incrementAndGet() > maxSubscribers) {
+            slots.decrementAndGet();
+            throw new IllegalStateException("Too many stream subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        StreamSubscriber subscriber = new StreamSubscriber(emitter, bufferSize, heartbeatMillis,
+                this::unsubscribe, sent, coalesced, overflows);
+        emitter.onCompletion(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        emitter.onTimeout(subscriber::complete);
+        subscribers.add(subscriber);
+        if (reconnect) {
+            subscriber.requestResync("reconnect");
+        }
+        subscriber.start();
+        return emitter;
+    }
+
+    private void unsubscribe(StreamSubscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            slots.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void onEvents(List<SequencedEvent> batch) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        for (SequencedEvent sequenced : batch) {
+            if (sequenced.event() instanceof LoanCreated loan) {
+                publish("loan", null, new LoanEvent(loan.loanId(), loan.bookId(), loan.memberId(), loan.dueDate()));
+                publishBook(loan.bookId(), BookStatus.LOANED.name());
+            } else if (sequenced.event() instanceof LoanReturned returned) {
+                publish("return", null, new ReturnEvent(returned.loanId(), returned.bookId(), returned.memberId(),
+                        returned.returnDate()));
+                publishBook(returned.bookId(), BookStatus.AVAILABLE.name());
+            } else if (sequenced.event() instanceof BookChanged book) {
+                publishBook(book.bookId(), book.type() == ChangeType.DELETED || book.status() == null ?
+                        DELETED : book.status().name());
+            }
+        }
+    }
+
+    // 폴러 스레드의 트랜잭션 안에서 호출되므로 상태는 primary에서 읽음
+    @Override
+    public void onRemoteChange(ChangeLogEntry entry) {
+        if (entry.getTarget() != ChangeTarget.BOOK || subscribers.isEmpty()) {
+            return;
+        }
+        if (entry.getTargetId() == null) {
+            subscribers.forEach(subscriber -> subscriber.requestResync("bulk-change"));
+            return;
+        }
+        publishBook(entry.getTargetId(), bookRepository.findStatusById(entry.getTargetId())
+                .map(BookStatus::name)
+                .orElse(DELETED));
+    }
+
+    // 구간 [직전 검사, 지금)에 반납 예정일이 지난 대출 중 아직 대출 중인 것 (대기열보다 많으면 바로 resync)
+    @Scheduled(initialDelayString = "${circulation-stream.overdue-scan-interval-ms:60000}",
+            fixedDelayString = "${circulation-stream.overdue-scan-interval-ms:60000}")
+    public void scanOverdue() {
+        LocalDateTime from = lastOverdueScan;
+        LocalDateTime to = LocalDateTime.now();
+        lastOverdueScan = to;
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = readOnlyTransaction.execute(status -> loanRepository.findBecameOverdue(
+                LoanStatus.ACTIVE, from, to, PageRequest.of(0, bufferSize + 1)));
+        if (rows.size() > bufferSize) {
+            subscribers.forEach(subscriber -> subscriber.requestResync("overdue"));
+            return;
+        }
+        for (Object[] row : rows) {
+            publish("overdue", null, new OverdueEvent(((Number) row[0]).longValue(), ((Number) row[1]).longValue(),
+                    ((Number) row[2]).longValue(), (LocalDateTime) row[3]));
+        }
+    }
+
+    private void publishBook(long bookId, String status) {
+        publish("book", bookId, new BookStatusEvent(bookId, status));
+    }
+
+    private void publish(String type, Object key, Object data) {
+        StreamEvent event = new StreamEvent(nextId.incrementAndGet(), type, key, data);
+        published.incrementAndGet();
+        for (StreamSubscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    public CirculationStreamStats getStats() {
+        return CirculationStreamStats.builder()
+                .subscribers(subscribers.size())
+                .published(published.get())
+                .sent(sent.get())
+                .coalesced(coalesced.get())
+                .overflows(overflows.get())
+                .lastOverdueScanAt(lastOverdueScan)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(StreamSubscriber::complete);
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.librarysystem.stream;
+
+// 구독자에게 보낼 SSE 이벤트 하나 (key가 같은 이벤트는 전송 전이면 마지막 값으로 합침, null이면 합치지 않음)
+record StreamEvent(long id, String type, Object key, Object data) {
+}
@@ -0,0 +1,160 @@
+package com.example.librarysystem.stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+// 구독자 한 명의 전송 대기열과 전송 스레드
+//
+// 버스/폴러 스레드는 offer만 하고 실제 전송은 구독자별 가상 스레드가 하므로 느린 연결이 발행 쪽을 막지 않음
+// 같은 key(도서)의 이벤트는 대기열 안에서 마지막 값으로 합치고, 대기열이 capacity를 넘으면 모두 버린 뒤 resync 하나만 보냄
+// (resync를 받은 클라이언트는 목록을 다시 읽으므로 resync 전송 전까지 들어온 이벤트도 버려도 됨)
+// 대기는 ReentrantLock/Condition으로 함 (synchronized 안의 wait는 가상 스레드가 캐리어 스레드를 붙잡음)
+final class StreamSubscriber {
+
+    record Resync(String reason) {
+    }
+
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final long heartbeatMillis;
+    private final Consumer<StreamSubscriber> onClose;
+    private final AtomicLong sent;
+    private final AtomicLong coalesced;
+    private final AtomicLong overflows;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<Object, StreamEvent> pending = new LinkedHashMap<>();
+    private String resyncReason;
+    private boolean closed;
+
+    StreamSubscriber(SseEmitter emitter, int capacity, long heartbeatMillis, Consumer<StreamSubscriber> onClose,
+                     AtomicLong sent, AtomicLong coalesced, AtomicLong overflows) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.heartbeatMillis = heartbeatMillis;
+        this.onClose = onClose;
+        this.sent = sent;
+        this.coalesced = coalesced;
+        this.overflows = overflows;
+    }
+
+    void start() {
+        Thread.ofVirtual().name("sse-subscriber").start(this::run);
+    }
+
+    void offer(StreamEvent event) {
+        lock.lock();
+        try {
+            if (closed || resyncReason != null) {
+                return;
+            }
+            if (event.key() != null && pending.containsKey(event.key())) {
+                pending.put(event.key(), event);
+                coalesced.incrementAndGet();
+                return;
+            }
+            if (pending.size() >= capacity) {
+                overflows.incrementAndGet();
+                requestResync("overflow");
+                return;
+            }
+            pending.put(event.key() != null ? event.key() : new Object(), event);
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void requestResync(String reason) {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            pending.clear();
+            resyncReason = reason;
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                String resync;
+                List<StreamEvent> batch;
+                lock.lock();
+                try {
+                    long remaining = TimeUnit.MILLISECONDS.toNanos(heartbeatMillis);
+                    while (!closed && pending.isEmpty() && resyncReason == null && remaining > 0) {
+                        remaining = changed.awaitNanos(remaining);
+                    }
+                    if (closed) {
+                        return;
+                    }
+                    resync = resyncReason;
+                    resyncReason = null;
+                    batch = new ArrayList<>(pending.values());
+                    pending.clear();
+                } finally {
+                    lock.unlock();
+                }
+
+                if (resync != null) {
+                    emitter.send(SseEmitter.event().name("resync").data(new Resync(resync), MediaType.APPLICATION_JSON));
+                }
+                for (StreamEvent event : batch) {
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(event.id()))
+                            .name(event.type())
+                            .data(event.data(), MediaType.APPLICATION_JSON));
+                }
+                if (resync == null && batch.isEmpty()) {
+                    // 끊긴 연결은 전송 실패로만 알 수 있으므로 주기적으로 주석 한 줄
+                    emitter.send(SseEmitter.event().comment("keepalive"));
+                }
+                sent.addAndGet(batch.size() + (resync != null ? 1 : 0));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 emitter가 이미 완료됨
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            close();
+        }
+    }
+
+    // 타임아웃이나 서버 종료 시 연결을 정상 종료
+    void complete() {
+        close();
+        emitter.complete();
+    }
+
+    void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.clear();
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+        onClose.accept(this);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.librarysystem.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 1, Duration.ofHours(1), 100);
+
+        assertEquals(2, limiter.tryAcquire("a").remaining());
+        assertEquals(1, limiter.tryAcquire("a").remaining());
+        assertEquals(0, limiter.tryAcquire("a").remaining());
+
+        TokenBucketRateLimiter.Decision rejected = limiter.tryAcquire("a");
+        assertFalse(rejected.allowed());
+        assertTrue(rejected.retryAfterNanos() > TimeUnit.MINUTES.toNanos(59));
+    }
+
+    @Test
+    void keysHaveIndependentBuckets() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, Duration.ofHours(1), 100);
+
+        assertTrue(limiter.tryAcquire("a").allowed());
+        assertFalse(limiter.tryAcquire("a").allowed());
+        assertTrue(limiter.tryAcquire("b").allowed());
+        assertEquals(2, limiter.size());
+    }
+
+    @Test
+    void refillsAfterEmissionInterval() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, Duration.ofMillis(50), 100);
+
+        assertTrue(limiter.tryAcquire("a").allowed());
+        assertFalse(limiter.tryAcquire("a").allowed());
+        Thread.sleep(80);
+        assertTrue(limiter.tryAcquire("a").allowed());
+    }
+
+    @Test
+    void keysBeyondLimitShareOverflowBucket() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, Duration.ofHours(1), 2);
+
+        assertTrue(limiter.tryAcquire("a").allowed());
+        assertTrue(limiter.tryAcquire("b").allowed());
+        assertTrue(limiter.tryAcquire("c").allowed());
+        assertFalse(limiter.tryAcquire("d").allowed());
+        assertEquals(2, limiter.size());
+    }
+
+    @Test
+    void concurrentCallersNeverExceedCapacity() throws InterruptedException {
+        int capacity = 50;
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(capacity, 1, Duration.ofHours(1), 100);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 100; i++) {
+                    if (limiter.tryAcquire("shared").allowed()) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(capacity, allowed.get());
+    }
+
+    @Test
+    void rejectsNonPositiveSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(0, 1, Duration.ofSeconds(1), 10));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(1, 1, Duration.ZERO, 10));
+    }
+}
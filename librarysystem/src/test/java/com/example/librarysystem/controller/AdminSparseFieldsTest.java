@@ -0,0 +1,57 @@
+package com.example.librarysystem.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 알 수 없는 fields/정렬 이름은 저장소까지 가지 않고 400이어야 함 (예외 변환으로 500이 되던 문제)
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class AdminSparseFieldsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void unknownLoanFieldIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/admin/loans").param("fields", "bogus"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void unknownLoanFieldInSearchIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/admin/loans/search").param("query", "a").param("fields", "book.bogus"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void knownLoanFieldsAreOk() throws Exception {
+        mockMvc.perform(get("/api/admin/loans").param("fields", "book.title,user.username,dueDate"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void unknownBookFieldIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/admin/books").param("fields", "bogus"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void unsupportedBookSortIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/admin/books").param("fields", "title").param("sort", "available,desc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void knownBookFieldsAndSortAreOk() throws Exception {
+        mockMvc.perform(get("/api/admin/books").param("fields", "title,author").param("sort", "title,asc"))
+                .andExpect(status().isOk());
+    }
+}
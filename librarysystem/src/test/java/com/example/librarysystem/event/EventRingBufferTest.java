@@ -0,0 +1,119 @@
+package com.example.librarysystem.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventRingBufferTest {
+
+    @Test
+    void rejectsCapacityThatIsNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new EventRingBuffer(6));
+    }
+
+    @Test
+    void pollReturnsPublishedEventsInOrderWithoutMovingCursor() {
+        EventRingBuffer buffer = new EventRingBuffer(8);
+        EventRingBuffer.Cursor cursor = buffer.newCursor();
+        for (long id = 1; id <= 5; id++) {
+            buffer.publish(BookChanged.deleted(id));
+        }
+
+        List<SequencedEvent> batch = buffer.poll(cursor, 3);
+        assertEquals(List.of(0L, 1L, 2L), batch.stream().map(SequencedEvent::sequence).toList());
+        assertEquals(1L, ((BookChanged) batch.get(0).event()).bookId());
+        assertEquals(-1L, cursor.get());
+
+        buffer.commit(cursor, 2);
+        assertEquals(List.of(3L, 4L), buffer.poll(cursor, 10).stream().map(SequencedEvent::sequence).toList());
+    }
+
+    @Test
+    void newCursorOnlySeesLaterEvents() {
+        EventRingBuffer buffer = new EventRingBuffer(4);
+        buffer.publish(BookChanged.deleted(1L));
+        EventRingBuffer.Cursor cursor = buffer.newCursor();
+        assertTrue(buffer.poll(cursor, 10).isEmpty());
+
+        buffer.publish(BookChanged.deleted(2L));
+        assertEquals(1L, buffer.poll(cursor, 10).get(0).sequence());
+    }
+
+    @Test
+    void wrapsAroundAfterConsumerCommits() {
+        EventRingBuffer buffer = new EventRingBuffer(4);
+        EventRingBuffer.Cursor cursor = buffer.newCursor();
+        for (long id = 0; id < 10; id++) {
+            buffer.publish(BookChanged.deleted(id));
+            SequencedEvent event = buffer.poll(cursor, 1).get(0);
+            assertEquals(id, event.sequence());
+            assertEquals(id, ((BookChanged) event.event()).bookId());
+            buffer.commit(cursor, event.sequence());
+        }
+    }
+
+    @Test
+    void publisherWaitsForSlowestConsumerUntilCommit() throws Exception {
+        EventRingBuffer buffer = new EventRingBuffer(4);
+        EventRingBuffer.Cursor cursor = buffer.newCursor();
+        for (long id = 0; id < 4; id++) {
+            buffer.publish(BookChanged.deleted(id));
+        }
+
+        AtomicLong sequence = new AtomicLong(Long.MIN_VALUE);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread publisher = new Thread(() -> {
+            sequence.set(buffer.publish(BookChanged.deleted(4L)));
+            done.countDown();
+        });
+        publisher.start();
+
+        assertFalse(done.await(100, TimeUnit.MILLISECONDS), "publisher should wait for a free slot");
+        buffer.commit(cursor, 0);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(4L, sequence.get());
+    }
+
+    @Test
+    void removedCursorNoLongerHoldsBackPublishers() throws Exception {
+        EventRingBuffer buffer = new EventRingBuffer(4);
+        EventRingBuffer.Cursor cursor = buffer.newCursor();
+        for (long id = 0; id < 4; id++) {
+            buffer.publish(BookChanged.deleted(id));
+        }
+
+        CountDownLatch done = new CountDownLatch(1);
+        Thread publisher = new Thread(() -> {
+            buffer.publish(BookChanged.deleted(4L));
+            done.countDown();
+        });
+        publisher.start();
+        assertFalse(done.await(100, TimeUnit.MILLISECONDS));
+
+        buffer.removeCursor(cursor);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void awaitReturnsWhenEventIsPublished() throws Exception {
+        EventRingBuffer buffer = new EventRingBuffer(4);
+        EventRingBuffer.Cursor cursor = buffer.newCursor();
+        CountDownLatch woke = new CountDownLatch(1);
+        Thread consumer = new Thread(() -> {
+            while (buffer.poll(cursor, 1).isEmpty()) {
+                buffer.await(cursor, TimeUnit.SECONDS.toNanos(30));
+            }
+            woke.countDown();
+        });
+        consumer.start();
+
+        Thread.sleep(50);
+        buffer.publish(BookChanged.deleted(1L));
+        assertTrue(woke.await(5, TimeUnit.SECONDS));
+    }
+}
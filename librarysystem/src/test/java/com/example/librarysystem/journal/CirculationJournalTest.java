@@ -0,0 +1,127 @@
+package com.example.librarysystem.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CirculationJournalTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void scanReturnsAppendedRecordsInTimeRange() throws IOException {
+        try (CirculationJournal journal = open()) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(1000 + i, (byte) 1, payload("event-" + i));
+            }
+        }
+
+        List<JournalRecord> records = scan(1001, 1004);
+        assertEquals(List.of(2L, 3L, 4L), records.stream().map(JournalRecord::sequence).toList());
+        assertEquals("event-1", new String(records.get(0).payload(), StandardCharsets.UTF_8));
+        assertEquals(1, records.get(0).type());
+    }
+
+    @Test
+    void rollsToNewSegmentWhenFull() throws IOException {
+        byte[] payload = new byte[1000];
+        try (CirculationJournal journal = open()) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(i, (byte) 1, payload);
+            }
+        }
+
+        assertTrue(CirculationJournal.listSegments(directory).size() > 1);
+        assertEquals(10, scan(0, Long.MAX_VALUE).size());
+        assertEquals(List.of(8L, 9L, 10L), scan(7, Long.MAX_VALUE).stream().map(JournalRecord::sequence).toList());
+    }
+
+    @Test
+    void reopenContinuesAfterLastRecord() throws IOException {
+        try (CirculationJournal journal = open()) {
+            journal.append(1, (byte) 1, payload("a"));
+            journal.append(2, (byte) 1, payload("b"));
+        }
+        try (CirculationJournal journal = open()) {
+            assertEquals(3, journal.getNextSequence());
+            assertEquals(3, journal.append(3, (byte) 1, payload("c")));
+        }
+
+        assertEquals(List.of("a", "b", "c"), scan(0, Long.MAX_VALUE).stream()
+                .map(record -> new String(record.payload(), StandardCharsets.UTF_8)).toList());
+    }
+
+    @Test
+    void corruptedRecordEndsScanAndRecoveryOverwritesIt() throws IOException {
+        try (CirculationJournal journal = open()) {
+            journal.append(1, (byte) 1, payload("first"));
+            journal.append(2, (byte) 1, payload("second"));
+        }
+        // 두 번째 레코드의 payload 한 바이트를 바꿔 CRC 불일치
+        int secondPayload = CirculationJournal.HEADER_SIZE + "first".length() + CirculationJournal.HEADER_SIZE;
+        Path segment = CirculationJournal.listSegments(directory).get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), secondPayload);
+        }
+
+        assertEquals(List.of(1L), scan(0, Long.MAX_VALUE).stream().map(JournalRecord::sequence).toList());
+
+        try (CirculationJournal journal = open()) {
+            assertEquals(2, journal.getNextSequence());
+            journal.append(3, (byte) 1, payload("replacement"));
+        }
+        List<JournalRecord> records = scan(0, Long.MAX_VALUE);
+        assertEquals(2, records.size());
+        assertEquals("replacement", new String(records.get(1).payload(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void scanCommittedSkipsRolledBackRecordsAndMarkers() throws IOException {
+        try (CirculationJournal journal = open()) {
+            journal.append(10, (byte) 1, payload("committed"));
+            long aborted = journal.append(11, (byte) 1, payload("aborted"));
+            journal.append(12, (byte) 1, payload("later"));
+            journal.markRolledBack(20, aborted);
+        }
+
+        List<JournalRecord> committed = new ArrayList<>();
+        // 무효화 표시가 범위 밖(20)에 있어도 대상 레코드는 제외
+        CirculationJournal.scanCommitted(directory, 10, 13, committed::add);
+        assertEquals(List.of(1L, 3L), committed.stream().map(JournalRecord::sequence).toList());
+        assertEquals(4, scan(0, Long.MAX_VALUE).size());
+    }
+
+    @Test
+    void readRecordStopsAtZeroLengthAndRestoresPosition() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        assertNull(CirculationJournal.readRecord(buffer));
+        assertEquals(0, buffer.position());
+    }
+
+    private CirculationJournal open() throws IOException {
+        return new CirculationJournal(directory, SEGMENT_SIZE, FsyncPolicy.NONE);
+    }
+
+    private List<JournalRecord> scan(long from, long to) throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        CirculationJournal.scan(directory, from, to, records::add);
+        return records;
+    }
+
+    private static byte[] payload(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
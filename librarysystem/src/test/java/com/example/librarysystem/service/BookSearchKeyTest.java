@@ -0,0 +1,39 @@
+package com.example.librarysystem.service;
+
+import com.example.librarysystem.dto.BookSearchRequest;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookSearchKeyTest {
+
+    @Test
+    void caseAndNormalizationFormShareKey() {
+        String nfd = Normalizer.normalize("자바", Normalizer.Form.NFD);
+
+        assertEquals(BookSearchKey.of(request("JAVA")), BookSearchKey.of(request("java")));
+        assertEquals(BookSearchKey.of(request(nfd)), BookSearchKey.of(request("자바")));
+    }
+
+    @Test
+    void surroundingWhitespaceIsPartOfSearchTerm() {
+        BookSearchKey padded = BookSearchKey.of(request(" java "));
+
+        assertNotEquals(BookSearchKey.of(request("java")), padded);
+        assertEquals(" java ", padded.title());
+    }
+
+    @Test
+    void emptyTermMeansNoFilter() {
+        assertNull(BookSearchKey.of(request("")).title());
+        assertNull(BookSearchKey.of(request(null)).title());
+    }
+
+    private static BookSearchRequest request(String title) {
+        BookSearchRequest request = new BookSearchRequest();
+        request.setTitle(title);
+        return request;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.librarysystem.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoLoanRecommenderNeighborsTest {
+
+    private static final CoLoanRecommender.Neighbors EMPTY = CoLoanRecommender.Neighbors.EMPTY;
+
+    @Test
+    void keepsEntriesSortedByCountDescending() {
+        CoLoanRecommender.Neighbors neighbors = EMPTY.with(1, 3, 5).with(2, 7, 5).with(3, 5, 5);
+
+        assertArrayEquals(new long[]{2, 3, 1}, neighbors.bookIds());
+        assertArrayEquals(new long[]{7, 5, 3}, neighbors.counts());
+    }
+
+    @Test
+    void updatesExistingEntryInPlace() {
+        CoLoanRecommender.Neighbors neighbors = EMPTY.with(1, 3, 5).with(2, 7, 5).with(3, 5, 5)
+                .with(1, 9, 5);
+
+        assertArrayEquals(new long[]{1, 2, 3}, neighbors.bookIds());
+        assertArrayEquals(new long[]{9, 7, 5}, neighbors.counts());
+    }
+
+    @Test
+    void dropsLowestWhenFull() {
+        CoLoanRecommender.Neighbors neighbors = EMPTY.with(1, 3, 2).with(2, 7, 2);
+
+        assertSame(neighbors, neighbors.with(3, 2, 2));
+        assertSame(neighbors, neighbors.with(3, 3, 2));
+
+        CoLoanRecommender.Neighbors replaced = neighbors.with(3, 4, 2);
+        assertArrayEquals(new long[]{2, 3}, replaced.bookIds());
+        assertArrayEquals(new long[]{7, 4}, replaced.counts());
+    }
+
+    @Test
+    void appendsSmallestWhenNotFull() {
+        CoLoanRecommender.Neighbors neighbors = EMPTY.with(1, 5, 3).with(2, 1, 3);
+
+        assertArrayEquals(new long[]{1, 2}, neighbors.bookIds());
+        assertArrayEquals(new long[]{5, 1}, neighbors.counts());
+    }
+
+    @Test
+    void lastPlaceUpdateKeepsLength() {
+        CoLoanRecommender.Neighbors neighbors = EMPTY.with(1, 5, 2).with(2, 4, 2).with(2, 6, 2);
+
+        assertArrayEquals(new long[]{2, 1}, neighbors.bookIds());
+        assertArrayEquals(new long[]{6, 5}, neighbors.counts());
+    }
+}
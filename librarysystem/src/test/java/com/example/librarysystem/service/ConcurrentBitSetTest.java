@@ -0,0 +1,69 @@
+package com.example.librarysystem.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentBitSetTest {
+
+    @Test
+    void setsAndClearsBits() {
+        ConcurrentBitSet bits = new ConcurrentBitSet(128);
+        bits.set(0, true);
+        bits.set(63, true);
+        bits.set(64, true);
+        bits.set(63, false);
+
+        assertTrue(bits.get(0));
+        assertFalse(bits.get(63));
+        assertTrue(bits.get(64));
+        assertEquals(2, bits.cardinality());
+    }
+
+    @Test
+    void outOfRangeReadsAreFalseAndWritesGrow() {
+        ConcurrentBitSet bits = new ConcurrentBitSet(1);
+        assertFalse(bits.get(-1));
+        assertFalse(bits.get(10_000));
+
+        bits.set(10_000, true);
+        assertTrue(bits.get(10_000));
+        assertEquals(1, bits.cardinality());
+        assertThrows(IllegalArgumentException.class, () -> bits.set(-1, true));
+    }
+
+    @Test
+    void concurrentWritersToSharedWordsDoNotLoseUpdates() throws InterruptedException {
+        ConcurrentBitSet bits = new ConcurrentBitSet(64);
+        int threads = 8;
+        int perThread = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            Thread writer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                // 스레드마다 번갈아 가며 같은 워드의 다른 비트를 씀 (도중에 배열이 여러 번 늘어남)
+                for (int i = 0; i < perThread; i++) {
+                    bits.set((long) i * threads + offset, true);
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+        start.countDown();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        assertEquals((long) threads * perThread, bits.cardinality());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.librarysystem.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountMinSketchTest {
+
+    @Test
+    void neverUnderestimatesAndStaysWithinErrorBound() {
+        CountMinSketch sketch = CountMinSketch.forError(0.01, 0.99);
+        Map<Long, Long> exact = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 50_000; i++) {
+            long key = (long) Math.floor(Math.pow(random.nextDouble(), 3) * 5000);
+            sketch.add(key);
+            exact.merge(key, 1L, Long::sum);
+        }
+
+        assertEquals(50_000, sketch.total());
+        long bound = sketch.errorBound();
+        int overBound = 0;
+        for (Map.Entry<Long, Long> entry : exact.entrySet()) {
+            long estimate = sketch.estimate(entry.getKey());
+            assertTrue(estimate >= entry.getValue(), "estimate below true count for " + entry.getKey());
+            if (estimate - entry.getValue() > bound) {
+                overBound++;
+            }
+        }
+        // 항목별로 확률 1 - delta(0.99) 이상 오차 한도 안
+        assertTrue(overBound <= exact.size() / 100 + 1, overBound + " keys over the error bound");
+    }
+
+    @Test
+    void unseenKeyEstimatesZeroWhenSketchIsSparse() {
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        sketch.add("a");
+        assertEquals(1, sketch.estimate("a"));
+        assertEquals(0, sketch.estimate("b"));
+    }
+
+    @Test
+    void mergeEqualsAddingBothStreams() {
+        CountMinSketch left = new CountMinSketch(64, 3);
+        CountMinSketch right = new CountMinSketch(64, 3);
+        CountMinSketch both = new CountMinSketch(64, 3);
+        for (int i = 0; i < 1000; i++) {
+            String key = "k" + (i % 37);
+            (i % 2 == 0 ? left : right).add(key);
+            both.add(key);
+        }
+
+        left.merge(right);
+        assertEquals(both.total(), left.total());
+        for (int i = 0; i < 37; i++) {
+            assertEquals(both.estimate("k" + i), left.estimate("k" + i));
+        }
+    }
+
+    @Test
+    void forErrorSizesSketchFromEpsilonAndConfidence() {
+        CountMinSketch sketch = CountMinSketch.forError(0.002, 0.99);
+        for (int i = 0; i < 1000; i++) {
+            sketch.add(i);
+        }
+        // width = ceil(e / 0.002) = 1360 -> bound = ceil(e / 1360 * 1000) = 2
+        assertEquals(2, sketch.errorBound());
+    }
+}
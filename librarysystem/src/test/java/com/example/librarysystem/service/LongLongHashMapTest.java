@@ -0,0 +1,80 @@
+package com.example.librarysystem.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongLongHashMapTest {
+
+    @Test
+    void addToAccumulatesAndGrows() {
+        LongLongHashMap map = new LongLongHashMap(2);
+        Map<Long, Long> expected = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 10_000; i++) {
+            long key = 1 + random.nextLong(2_000);
+            long delta = 1 + random.nextLong(5);
+            assertEquals(expected.merge(key, delta, Long::sum), map.addTo(key, delta));
+        }
+
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+        assertEquals(0, map.get(5_000));
+    }
+
+    @Test
+    void rejectsReservedZeroKey() {
+        assertThrows(IllegalArgumentException.class, () -> new LongLongHashMap().addTo(0, 1));
+    }
+
+    @Test
+    void retainLargestKeepsTopValues() {
+        LongLongHashMap map = new LongLongHashMap();
+        for (long key = 1; key <= 100; key++) {
+            map.addTo(key, key * 10);
+        }
+
+        map.retainLargest(10);
+
+        assertEquals(10, map.size());
+        for (long key = 91; key <= 100; key++) {
+            assertEquals(key * 10, map.get(key));
+        }
+        assertEquals(0, map.get(90));
+        // 남은 항목으로 계속 갱신 가능
+        assertEquals(1001, map.addTo(100, 1));
+        assertEquals(5, map.addTo(7, 5));
+    }
+
+    @Test
+    void retainLargestDropsTiesAtThreshold() {
+        LongLongHashMap map = new LongLongHashMap();
+        map.addTo(1, 5);
+        map.addTo(2, 3);
+        map.addTo(3, 3);
+        map.addTo(4, 3);
+
+        map.retainLargest(2);
+
+        assertEquals(1, map.size());
+        assertEquals(5, map.get(1));
+    }
+
+    @Test
+    void retainLargestIsNoOpWhenSmallEnough() {
+        LongLongHashMap map = new LongLongHashMap();
+        map.addTo(1, 1);
+        map.addTo(2, 2);
+
+        map.retainLargest(2);
+
+        assertEquals(2, map.size());
+        long[] sum = {0};
+        map.forEach((key, value) -> sum[0] += key * value);
+        assertEquals(5, sum[0]);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.librarysystem.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    void concurrentCallsWithSameKeyShareOneExecution() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>(100, Duration.ofSeconds(5));
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(8);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    return singleFlight.execute("key", () -> {
+                        executions.incrementAndGet();
+                        await(release);
+                        return 42;
+                    });
+                }));
+            }
+            ready.await();
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(42, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, executions.get());
+            assertEquals(7, singleFlight.getShared());
+            assertEquals(0, singleFlight.getInFlight());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void sequentialCallsExecuteAgain() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>(10, Duration.ofSeconds(1));
+        AtomicInteger executions = new AtomicInteger();
+
+        singleFlight.execute("key", executions::incrementAndGet);
+        singleFlight.execute("key", executions::incrementAndGet);
+
+        assertEquals(2, executions.get());
+        assertEquals(0, singleFlight.getShared());
+    }
+
+    @Test
+    void leaderFailureIsPropagatedToWaiters() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>(10, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                started.countDown();
+                await(release);
+                throw new IllegalArgumentException("boom");
+            }));
+            started.await();
+            Future<Integer> waiter = executor.submit(() -> singleFlight.execute("key", () -> 0));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertInstanceOf(IllegalArgumentException.class, failureOf(leader));
+            assertInstanceOf(IllegalArgumentException.class, failureOf(waiter));
+            assertEquals(0, singleFlight.getInFlight());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsWaitersBeyondLimitAndOnTimeout() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>(1, Duration.ofMillis(500));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.submit(() -> singleFlight.execute("key", () -> {
+                started.countDown();
+                await(release);
+                return 1;
+            }));
+            started.await();
+            Future<Integer> waiter = executor.submit(() -> singleFlight.execute("key", () -> 0));
+            Thread.sleep(100);
+
+            assertThrows(SingleFlight.RejectedException.class, () -> singleFlight.execute("key", () -> 0));
+            assertInstanceOf(SingleFlight.RejectedException.class, failureOf(waiter));
+            assertEquals(1, singleFlight.getRejected());
+            assertEquals(1, singleFlight.getTimedOut());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static Throwable failureOf(Future<?> future) throws InterruptedException {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            return null;
+        } catch (java.util.concurrent.ExecutionException e) {
+            return e.getCause();
+        } catch (java.util.concurrent.TimeoutException e) {
+            throw new AssertionError("call did not finish", e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
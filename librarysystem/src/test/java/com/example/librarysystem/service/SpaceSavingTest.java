@@ -0,0 +1,76 @@
+package com.example.librarysystem.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpaceSavingTest {
+
+    @Test
+    void countsExactlyWhileUnderCapacity() {
+        SpaceSaving<String> summary = new SpaceSaving<>(10);
+        for (String key : new String[]{"a", "b", "a", "c", "a", "b"}) {
+            summary.offer(key, key.toUpperCase());
+        }
+
+        Map<String, Long> counts = counts(summary);
+        assertEquals(Map.of("a", 3L, "b", 2L, "c", 1L), counts);
+        summary.counters().forEach(counter -> {
+            assertEquals(0, counter.error);
+            assertEquals(counter.key.toUpperCase(), counter.label);
+        });
+    }
+
+    @Test
+    void evictsSmallestCounterAndInheritsItsCount() {
+        SpaceSaving<String> summary = new SpaceSaving<>(2);
+        summary.offer("a", "a");
+        summary.offer("a", "a");
+        summary.offer("b", "b");
+        summary.offer("c", "c");
+
+        Map<String, Long> counts = counts(summary);
+        assertEquals(Map.of("a", 2L, "c", 2L), counts);
+        SpaceSaving.Counter<String> c = summary.counters().stream().filter(counter -> counter.key.equals("c")).findFirst().orElseThrow();
+        assertEquals(1, c.error);
+    }
+
+    @Test
+    void keepsHeavyHittersWithBoundedError() {
+        int capacity = 50;
+        SpaceSaving<Integer> summary = new SpaceSaving<>(capacity);
+        Map<Integer, Long> exact = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(11);
+        int total = 20_000;
+        for (int i = 0; i < total; i++) {
+            // 0..4는 각각 약 10%, 나머지는 긴 꼬리
+            int key = random.nextInt(2) == 0 ? random.nextInt(5) : 5 + random.nextInt(10_000);
+            summary.offer(key, "k" + key);
+            exact.merge(key, 1L, Long::sum);
+        }
+
+        assertEquals(capacity, summary.counters().size());
+        long counted = 0;
+        for (SpaceSaving.Counter<Integer> counter : summary.counters()) {
+            long actual = exact.get(counter.key);
+            assertTrue(counter.count >= actual, "count below actual for " + counter.key);
+            assertTrue(counter.count - counter.error <= actual, "guaranteed count above actual for " + counter.key);
+            counted += counter.count;
+        }
+        assertEquals(total, counted);
+        Map<Integer, Long> kept = counts(summary);
+        for (int heavy = 0; heavy < 5; heavy++) {
+            assertTrue(kept.containsKey(heavy), "heavy hitter " + heavy + " evicted");
+        }
+    }
+
+    private static <K> Map<K, Long> counts(SpaceSaving<K> summary) {
+        Map<K, Long> counts = new HashMap<>();
+        summary.counters().forEach(counter -> counts.put(counter.key, counter.count));
+        return counts;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.librarysystem.slowquery;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BindRedactorTest {
+
+    private final BindRedactor redactor = new BindRedactor(List.of("password", "refresh_token"));
+
+    @Test
+    void insertMatchesColumnsToValues() {
+        String sql = "insert into users (contact,memo,password,refresh_token,user_type,username,user_id) "
+                + "values (?,?,?,?,?,?,default)";
+        assertEquals(Set.of(3, 4), redactor.sensitivePositions(sql));
+    }
+
+    @Test
+    void updateRedactsOnlySensitiveAssignments() {
+        String sql = "update users set contact=?,memo=?,password=?,refresh_token=?,user_type=?,username=? where user_id=?";
+        assertEquals(Set.of(3, 4), redactor.sensitivePositions(sql));
+    }
+
+    @Test
+    void selectingSensitiveColumnKeepsKnownPredicates() {
+        String sql = "select m1_0.user_id,m1_0.password,m1_0.refresh_token,m1_0.username "
+                + "from users m1_0 where m1_0.username=? and m1_0.refresh_token = ?";
+        assertEquals(Set.of(2), redactor.sensitivePositions(sql));
+    }
+
+    @Test
+    void unknownPositionIsRedactedWhenSensitiveColumnAppears() {
+        String sql = "update users set refresh_token=null where user_id in (?,?)";
+        assertEquals(Set.of(1, 2), redactor.sensitivePositions(sql));
+    }
+
+    @Test
+    void statementWithoutSensitiveColumnKeepsEverything() {
+        String sql = "select b1_0.id from books b1_0 where b1_0.title like ? offset ? rows fetch first ? rows only";
+        assertEquals(Set.of(), redactor.sensitivePositions(sql));
+    }
+
+    @Test
+    void quotedColumnNamesAreMatched() {
+        String sql = "UPDATE \"USERS\" SET \"PASSWORD\" = ? WHERE \"USER_ID\" = ?";
+        assertEquals(Set.of(1), redactor.sensitivePositions(sql));
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.librarysystem.benchmark;
+
+import com.example.librarysystem.domain.enums.BookStatus;
+import com.example.librarysystem.domain.enums.LoanStatus;
+import com.example.librarysystem.domain.enums.UserType;
+import com.example.librarysystem.dto.BookDto;
+import com.example.librarysystem.dto.LoanDto;
+import com.example.librarysystem.dto.MemberDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.zip.GZIPOutputStream;
+
+// 대출/도서 목록 응답(Page<LoanDto>, Page<BookDto>)을 JSON, CBOR, Smile로 직렬화했을 때의 크기와 인코딩/디코딩 시간 비교
+//
+// 사용법: PayloadFormatBenchmark [--rows=100,1000] [--iterations=2000] [--warmup=500] [--seed=42]
+// 매퍼는 서버와 같은 Jackson2ObjectMapperBuilder 기본값으로 만들고, 디코딩은 클라이언트처럼 트리로 읽는 시간
+// ./gradlew payloadBenchmark -PpayloadArgs="--rows=100,1000"
+public final class PayloadFormatBenchmark {
+
+    private record Format(String name, ObjectMapper mapper) {
+    }
+
+    private static final String[] NAMES = {"김민준", "이서연", "박지호", "최하은", "정도윤", "강서윤", "조예준", "윤지우"};
+    private static final String[] TITLES = {"실전 스프링 부트", "모던 자바 인 액션", "이펙티브 자바", "클린 코드",
+            "데이터 중심 애플리케이션 설계", "오브젝트", "자바 ORM 표준 JPA 프로그래밍", "작은 바다의 기억"};
+    private static final String[] PUBLISHERS = {"한빛미디어", "위키북스", "인사이트", "길벗", "에이콘", "민음사"};
+
+    // 직렬화 결과를 버리지 않도록 누적
+    private static long sink;
+
+    private PayloadFormatBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parse(args);
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "2000"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "500"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        List<Format> formats = List.of(
+                new Format("json", Jackson2ObjectMapperBuilder.json().build()),
+                new Format("cbor", Jackson2ObjectMapperBuilder.cbor().build()),
+                new Format("smile", Jackson2ObjectMapperBuilder.smile().build()));
+
+        System.out.printf("%-18s %-6s %10s %10s %12s %12s%n", "payload", "format", "bytes", "gzip", "encode(us)", "decode(us)");
+        for (String rows : options.getOrDefault("rows", "100,1000").split(",")) {
+            int size = Integer.parseInt(rows.strip());
+            SplittableRandom random = new SplittableRandom(seed);
+            run("loans x" + size, page(size, i -> loan(random, i)), formats, iterations, warmup);
+            run("books x" + size, page(size, i -> book(random)), formats, iterations, warmup);
+        }
+    }
+
+    private static void run(String payload, Page<?> page, List<Format> formats, int iterations, int warmup) throws IOException {
+        for (Format format : formats) {
+            byte[] encoded = format.mapper().writeValueAsBytes(page);
+            for (int i = 0; i < warmup; i++) {
+                sink += format.mapper().writeValueAsBytes(page).length;
+                sink += format.mapper().readTree(encoded).size();
+            }
+
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink += format.mapper().writeValueAsBytes(page).length;
+            }
+            double encodeMicros = (System.nanoTime() - startedAt) / 1000.0 / iterations;
+
+            startedAt = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink += format.mapper().readTree(encoded).size();
+            }
+            double decodeMicros = (System.nanoTime() - startedAt) / 1000.0 / iterations;
+
+            System.out.printf("%-18s %-6s %10d %10d %12.1f %12.1f%n",
+                    payload, format.name(), encoded.length, gzipSize(encoded), encodeMicros, decodeMicros);
+        }
+    }
+
+    private static <T> Page<T> page(int size, IntFunction<T> row) {
+        List<T> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(row.apply(i));
+        }
+        return new PageImpl<>(content, PageRequest.of(0, size), size * 20L);
+    }
+
+    private static LoanDto loan(SplittableRandom random, int i) {
+        LocalDateTime loanDate = LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(random.nextInt(500_000));
+        boolean returned = random.nextInt(3) == 0;
+        return LoanDto.builder()
+                .id(100_000L + i)
+                .user(member(random))
+                .book(book(random))
+                .loanDate(loanDate)
+                .dueDate(loanDate.plusDays(14))
+                .returnDate(returned ? loanDate.plusDays(1 + random.nextInt(14)) : null)
+                .status(returned ? LoanStatus.RETURNED : LoanStatus.ACTIVE)
+                .overdue(!returned && random.nextInt(10) == 0)
+                .build();
+    }
+
+    private static MemberDto member(SplittableRandom random) {
+        int id = 1 + random.nextInt(1_000_000);
+        return MemberDto.builder()
+                .id((long) id)
+                .username(NAMES[random.nextInt(NAMES.length)] + id)
+                .contact(String.format("010-%04d-%04d", random.nextInt(10000), random.nextInt(10000)))
+                .memo("개발팀")
+                .userType(UserType.USER)
+                .build();
+    }
+
+    private static BookDto book(SplittableRandom random) {
+        boolean available = random.nextBoolean();
+        return BookDto.builder()
+                .id(1L + random.nextInt(2_000_000))
+                .title(TITLES[random.nextInt(TITLES.length)])
+                .author(NAMES[random.nextInt(NAMES.length)])
+                .publisher(PUBLISHERS[random.nextInt(PUBLISHERS.length)])
+                .publishedAt(1990 + random.nextInt(36))
+                .price(8000 + random.nextInt(53) * 1000)
+                .status(available ? BookStatus.AVAILABLE : BookStatus.LOANED)
+                .available(available)
+                .build();
+    }
+
+    private static int gzipSize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,383 @@
+package com.example.librarysystem.dataset;
+
+import com.example.librarysystem.domain.BookTitle;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+// 부하 테스트용 대용량 데이터 생성: 회원, 타이틀/사본, 여러 해에 걸친 대출 이력을 CSV로 쓰고 H2 CSVREAD로 적재
+//
+// 같은 seed, 크기, --now, 기존 최대 id에서는 항상 같은 데이터가 나옴
+// 도서 인기(대출 빈도)와 회원 활동량은 Zipf 분포, 대출 시각은 최근일수록 많아지도록 분포
+// 반납 일수를 먼저 뽑고 --now 시점에 아직 반납 전이면 대출 중(반납 예정일이 지났으면 연체)으로 남김
+//
+// 사용법: DatasetGenerator [--members=100000] [--titles=200000] [--loans=1000000] [--years=5] [--seed=42]
+//                          [--now=2025-01-01T00:00] [--max-copies=8] [--book-skew=1.1] [--member-skew=0.7]
+//                          [--out=./data/dataset] [--load=true] [--url=jdbc:h2:file:./library] [--user=sa] [--password=]
+// 스키마는 애플리케이션을 한 번 띄워 만들어 둔 상태여야 하고, 적재하는 동안 애플리케이션은 내려 두어야 함 (파일 DB 잠금)
+// ./gradlew generateDataset -PdatasetArgs="--members=2000000 --titles=1000000 --loans=10000000"
+public final class DatasetGenerator {
+
+    // data.sql 샘플 회원과 같은 비밀번호(password123)
+    private static final String PASSWORD = "{bcrypt}$2a$10$dXJ3SW6G7P50lGmMkkmwe.20cQQubK3.HZWzG3YB1tlRy.fqvM/BG";
+    private static final int LOAN_DAYS = 14;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Map<String, String> options;
+    private final long seed;
+    private final int members;
+    private final int titles;
+    private final int loans;
+    private final int years;
+    private final int maxCopies;
+    private final LocalDateTime now;
+    private final Path out;
+    private final DatasetVocabulary vocabulary = new DatasetVocabulary();
+
+    // 기존 데이터 뒤에 이어 붙이도록 테이블별 최대 id
+    private long userIdBase;
+    private long titleIdBase;
+    private long bookIdBase;
+    private long loanIdBase;
+    private final Set<String> titleKeys = new HashSet<>();
+
+    // 인기 순위(0부터) -> 타이틀
+    private int[] titleByRank;
+    // 타이틀별 첫 사본 번호와 사본 수, 사본별 대출 중 여부
+    private int[] firstCopy;
+    private int[] copyCount;
+    private int copies;
+    private BitSet loanedCopies;
+
+    private long activeLoans;
+    private long overdueLoans;
+
+    private DatasetGenerator(Map<String, String> options) {
+        this.options = options;
+        this.seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        this.members = positive("members", "100000");
+        this.titles = positive("titles", "200000");
+        this.loans = Integer.parseInt(options.getOrDefault("loans", "1000000"));
+        this.years = positive("years", "5");
+        this.maxCopies = positive("max-copies", "8");
+        this.now = options.containsKey("now") ? LocalDateTime.parse(options.get("now")) : LocalDate.now().atStartOfDay();
+        this.out = Path.of(options.getOrDefault("out", "./data/dataset"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new DatasetGenerator(parse(args)).run();
+    }
+
+    private void run() throws IOException, SQLException {
+        long startedAt = System.nanoTime();
+        boolean load = Boolean.parseBoolean(options.getOrDefault("load", "true"));
+        if (load) {
+            try (Connection connection = connect()) {
+                readExistingIds(connection);
+            }
+        }
+
+        Files.createDirectories(out);
+        writeMembers();
+        writeTitlesAndCopies();
+        writeLoans();
+        System.out.printf("Generated %d members, %d titles, %d copies, %d loans (%d active, %d overdue) in %s%n",
+                members, titles, copies, loans, activeLoans, overdueLoans, elapsed(startedAt));
+
+        if (load) {
+            long loadStartedAt = System.nanoTime();
+            try (Connection connection = connect()) {
+                bulkLoad(connection);
+            }
+            System.out.printf("Loaded into %s in %s%n", url(), elapsed(loadStartedAt));
+        }
+    }
+
+    private void writeMembers() throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        try (BufferedWriter writer = open("users.csv")) {
+            writer.write("USER_ID,USERNAME,PASSWORD,CONTACT,MEMO,USER_TYPE\n");
+            for (int i = 0; i < members; i++) {
+                long id = userIdBase + i + 1;
+                row(writer, id, quote(vocabulary.personName(random) + id), quote(PASSWORD),
+                        quote(vocabulary.contact(random)), quote(vocabulary.department(random)), "USER");
+            }
+        }
+    }
+
+    // 인기 순위가 높은 타이틀일수록 사본을 많이 둠 (순위는 id 순서와 무관하게 섞음)
+    private void writeTitlesAndCopies() throws IOException {
+        SplittableRandom random = new SplittableRandom(seed * 31 + 1);
+        int[] rankOf = permutation(titles, random);
+        titleByRank = new int[titles];
+        for (int t = 0; t < titles; t++) {
+            titleByRank[rankOf[t]] = t;
+        }
+        firstCopy = new int[titles];
+        copyCount = new int[titles];
+
+        String[] authors = new String[Math.max(1, titles / 4)];
+        for (int i = 0; i < authors.length; i++) {
+            authors[i] = vocabulary.personName(random);
+        }
+        ZipfSampler authorSampler = new ZipfSampler(authors.length, 0.8);
+
+        try (BufferedWriter titleWriter = open("titles.csv"); BufferedWriter bookWriter = open("books.csv")) {
+            titleWriter.write("ID,TITLE_KEY,TITLE,AUTHOR,PUBLISHER,PUBLISHED_AT,TOTAL_COPIES,AVAILABLE_COPIES\n");
+            bookWriter.write("ID,TITLE,AUTHOR,PUBLISHER,PUBLISHED_AT,PRICE,STATUS,TITLE_ID\n");
+            for (int t = 0; t < titles; t++) {
+                String author = authors[authorSampler.sample(random) - 1];
+                String publisher = vocabulary.publisher(random);
+                int publishedAt = now.getYear() - (int) Math.min(40, Math.abs(random.nextGaussian()) * 8);
+                String base = vocabulary.bookTitle(random);
+                String title = base;
+                // 같은 서지 키가 이미 있으면 권 번호를 붙여 구분
+                for (int volume = 2; !titleKeys.add(BookTitle.keyOf(title, author, publisher, publishedAt)); volume++) {
+                    title = base + " " + volume;
+                }
+                String key = BookTitle.keyOf(title, author, publisher, publishedAt);
+                int price = 8000 + random.nextInt(53) * 1000;
+
+                int count = 1 + (int) ((maxCopies - 1) * Math.pow(1.0 / (rankOf[t] + 1), 0.35)) + (random.nextInt(10) == 0 ? 1 : 0);
+                firstCopy[t] = copies;
+                copyCount[t] = count;
+                copies += count;
+
+                long titleId = titleIdBase + t + 1;
+                // 대출 가능 수는 적재 후 사본 상태로 다시 셈
+                row(titleWriter, titleId, quote(key), quote(title), quote(author), quote(publisher), publishedAt, count, count);
+                for (int c = 0; c < count; c++) {
+                    row(bookWriter, bookIdBase + firstCopy[t] + c + 1, quote(title), quote(author), quote(publisher),
+                            publishedAt, price, "AVAILABLE", titleId);
+                }
+            }
+        }
+        loanedCopies = new BitSet(copies);
+    }
+
+    // 대출은 시각 순으로 쓰고 id도 같은 순서로 매김
+    private void writeLoans() throws IOException {
+        SplittableRandom random = new SplittableRandom(seed * 31 * 31 + 2);
+        int[] memberByRank = permutation(members, random);
+        ZipfSampler titleSampler = new ZipfSampler(titles, Double.parseDouble(options.getOrDefault("book-skew", "1.1")));
+        ZipfSampler memberSampler = new ZipfSampler(members, Double.parseDouble(options.getOrDefault("member-skew", "0.7")));
+
+        long end = now.toEpochSecond(ZoneOffset.UTC);
+        long days = Duration.ofDays(365L * years).toDays();
+        long[] loanTimes = new long[loans];
+        for (int i = 0; i < loans; i++) {
+            // 밀도가 시간에 비례해 늘도록 sqrt, 대출 시각은 09~21시
+            long day = (long) (days * Math.sqrt(random.nextDouble()));
+            loanTimes[i] = end - (days - day) * 86_400 + 9 * 3600 + random.nextInt(12 * 3600);
+        }
+        Arrays.sort(loanTimes);
+
+        try (BufferedWriter writer = open("loans.csv")) {
+            writer.write("ID,USER_ID,BOOK_ID,LOAN_DATE,DUE_DATE,RETURN_DATE,STATUS\n");
+            for (int i = 0; i < loans; i++) {
+                int title = titleByRank[titleSampler.sample(random) - 1];
+                int member = memberByRank[memberSampler.sample(random) - 1];
+                long loanAt = loanTimes[i];
+                long dueAt = loanAt + LOAN_DAYS * 86_400L;
+                long returnAt = loanAt + returnDelaySeconds(random);
+
+                int copy = firstCopy[title] + random.nextInt(copyCount[title]);
+                String status;
+                if (returnAt < end) {
+                    status = "RETURNED";
+                } else {
+                    copy = freeCopy(title, copy);
+                    if (copy < 0) {
+                        // 모든 사본이 대출 중이면 지금까지 사이에 반납된 것으로 처리
+                        copy = firstCopy[title] + random.nextInt(copyCount[title]);
+                        returnAt = loanAt + random.nextLong(end - loanAt);
+                        status = "RETURNED";
+                    } else {
+                        loanedCopies.set(copy);
+                        activeLoans++;
+                        if (dueAt < end) {
+                            overdueLoans++;
+                        }
+                        status = "ACTIVE";
+                    }
+                }
+                row(writer, loanIdBase + i + 1, userIdBase + member + 1, bookIdBase + copy + 1,
+                        timestamp(loanAt), timestamp(dueAt), "ACTIVE".equals(status) ? "" : timestamp(returnAt), status);
+            }
+        }
+    }
+
+    // 대부분 기한 내, 일부는 늦게, 드물게 장기 미반납
+    private static long returnDelaySeconds(SplittableRandom random) {
+        int bucket = random.nextInt(100);
+        int days;
+        if (bucket < 80) {
+            days = 1 + random.nextInt(LOAN_DAYS);
+        } else if (bucket < 97) {
+            days = LOAN_DAYS + 1 + random.nextInt(30);
+        } else {
+            days = 60 + random.nextInt(400);
+        }
+        return days * 86_400L + random.nextInt(86_400);
+    }
+
+    private int freeCopy(int title, int preferred) {
+        if (!loanedCopies.get(preferred)) {
+            return preferred;
+        }
+        int next = loanedCopies.nextClearBit(firstCopy[title]);
+        return next < firstCopy[title] + copyCount[title] ? next : -1;
+    }
+
+    private void readExistingIds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME IN ('USERS', 'TITLES', 'BOOKS', 'LOANS')")) {
+                rs.next();
+                if (rs.getInt(1) < 4) {
+                    throw new IllegalStateException("Schema not found in " + url() + "; start the application once to create it");
+                }
+            }
+            userIdBase = maxId(statement, "SELECT COALESCE(MAX(user_id), 0) FROM users");
+            titleIdBase = maxId(statement, "SELECT COALESCE(MAX(id), 0) FROM titles");
+            bookIdBase = maxId(statement, "SELECT COALESCE(MAX(id), 0) FROM books");
+            loanIdBase = maxId(statement, "SELECT GREATEST(COALESCE((SELECT MAX(id) FROM loans), 0), "
+                    + "COALESCE((SELECT MAX(id) FROM loans_archive), 0))");
+            try (ResultSet rs = statement.executeQuery("SELECT title_key FROM titles")) {
+                while (rs.next()) {
+                    titleKeys.add(rs.getString(1));
+                }
+            }
+        }
+    }
+
+    // 참조 무결성 검사를 끄고 테이블별로 CSVREAD 한 번씩 적재한 뒤, 사본 상태와 대출 가능 수를 대출 결과에 맞춤
+    private void bulkLoad(Connection connection) throws SQLException {
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            try {
+                load(statement, "users", "user_id, username, password, contact, memo, user_type");
+                load(statement, "titles", "id, title_key, title, author, publisher, published_at, total_copies, available_copies");
+                load(statement, "books", "id, title, author, publisher, published_at, price, status, title_id");
+                load(statement, "loans", "id, user_id, book_id, loan_date, due_date, return_date, status");
+
+                statement.executeUpdate("UPDATE books SET status = 'LOANED' WHERE id > " + bookIdBase
+                        + " AND id IN (SELECT book_id FROM loans WHERE status = 'ACTIVE' AND id > " + loanIdBase + ")");
+                statement.executeUpdate("UPDATE titles t SET available_copies = (SELECT COUNT(*) FROM books b"
+                        + " WHERE b.title_id = t.id AND b.status = 'AVAILABLE') WHERE t.id > " + titleIdBase);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                statement.execute("SET REFERENTIAL_INTEGRITY TRUE");
+            }
+
+            // 명시적으로 넣은 id 이후부터 IDENTITY가 이어지도록
+            statement.execute("ALTER TABLE users ALTER COLUMN user_id RESTART WITH " + (userIdBase + members + 1));
+            statement.execute("ALTER TABLE titles ALTER COLUMN id RESTART WITH " + (titleIdBase + titles + 1));
+            statement.execute("ALTER TABLE books ALTER COLUMN id RESTART WITH " + (bookIdBase + copies + 1));
+            statement.execute("ALTER TABLE loans ALTER COLUMN id RESTART WITH " + (loanIdBase + loans + 1));
+            connection.commit();
+        }
+    }
+
+    private void load(Statement statement, String table, String columns) throws SQLException {
+        long startedAt = System.nanoTime();
+        String file = out.resolve(table + ".csv").toAbsolutePath().toString().replace("'", "''");
+        int rows = statement.executeUpdate("INSERT INTO " + table + " (" + columns + ") SELECT * FROM CSVREAD('"
+                + file + "', NULL, 'charset=UTF-8')");
+        System.out.printf("  %-8s %,12d rows in %s%n", table, rows, elapsed(startedAt));
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(url(), options.getOrDefault("user", "sa"), options.getOrDefault("password", ""));
+    }
+
+    private String url() {
+        return options.getOrDefault("url", "jdbc:h2:file:./library");
+    }
+
+    private BufferedWriter open(String name) throws IOException {
+        return Files.newBufferedWriter(out.resolve(name), StandardCharsets.UTF_8);
+    }
+
+    private static void row(BufferedWriter writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(String.valueOf(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String timestamp(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC).format(TIMESTAMP);
+    }
+
+    // 0..n-1을 섞은 배열 (Fisher-Yates)
+    private static int[] permutation(int n, SplittableRandom random) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+        return values;
+    }
+
+    private static long maxId(Statement statement, String sql) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static String elapsed(long startedAt) {
+        return Duration.ofNanos(System.nanoTime() - startedAt).toMillis() + " ms";
+    }
+
+    private int positive(String name, String defaultValue) {
+        int value = Integer.parseInt(options.getOrDefault(name, defaultValue));
+        if (value < 1) {
+            throw new IllegalArgumentException("--" + name + " must be positive");
+        }
+        return value;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.librarysystem.dataset;
+
+import java.util.SplittableRandom;
+
+// 한국어 이름/도서명/출판사 조합용 어휘 (성씨와 출판사는 앞쪽일수록 자주 나오도록 가중치)
+final class DatasetVocabulary {
+
+    private static final String[] SURNAMES = {
+            "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권",
+            "황", "안", "송", "전", "홍", "유", "고", "문", "양", "손", "배", "백", "허", "남", "노"
+    };
+    private static final String[] GIVEN_FIRST = {
+            "민", "서", "지", "예", "하", "도", "시", "주", "은", "수", "현", "유", "준", "윤", "태",
+            "재", "승", "다", "채", "소", "영", "정", "성", "동", "혜", "진", "우", "건", "나", "아"
+    };
+    private static final String[] GIVEN_SECOND = {
+            "준", "윤", "우", "연", "원", "호", "아", "은", "린", "진", "현", "서", "율", "빈", "희",
+            "민", "혁", "경", "수", "영", "훈", "석", "람", "솔", "별", "결", "찬", "온", "담", "규"
+    };
+    private static final String[] DEPARTMENTS = {
+            "개발팀", "디자인팀", "기획팀", "마케팅팀", "인사팀", "재무팀", "영업팀", "연구소", "고객지원팀", "법무팀"
+    };
+
+    private static final String[] TOPICS = {
+            "스프링", "자바", "파이썬", "데이터베이스", "알고리즘", "머신러닝", "클라우드", "쿠버네티스", "리액트", "운영체제",
+            "네트워크", "보안", "경제", "심리학", "역사", "철학", "글쓰기", "마케팅", "투자", "요리",
+            "여행", "육아", "건강", "디자인", "사진", "음악", "미술", "과학", "우주", "환경"
+    };
+    private static final String[] NOUNS = {
+            "바다", "별", "시간", "기억", "여름", "겨울", "도시", "마음", "정원", "편지",
+            "하늘", "숲", "길", "섬", "달", "바람", "등대", "계절", "밤", "서점",
+            "집", "강", "골목", "기차", "꿈", "언어", "노래", "우리", "너", "세계"
+    };
+    private static final String[] ADJECTIVES = {
+            "작은", "조용한", "푸른", "오래된", "따뜻한", "낯선", "눈부신", "느린", "먼", "보이지 않는",
+            "잃어버린", "다정한", "깊은", "새로운", "마지막", "첫", "빛나는", "고요한", "하얀", "긴"
+    };
+    private static final String[] PUBLISHERS = {
+            "한빛미디어", "위키북스", "인사이트", "길벗", "에이콘", "민음사", "문학동네", "창비", "김영사", "위즈덤하우스",
+            "열린책들", "은행나무", "알에이치코리아", "다산북스", "웅진지식하우스", "사계절", "비룡소", "시공사", "해냄", "푸른숲",
+            "한겨레출판", "문학과지성사", "북하우스", "책세상", "을유문화사", "휴머니스트", "동아시아", "생각의길", "흐름출판", "프리렉"
+    };
+
+    private final ZipfSampler surnames = new ZipfSampler(SURNAMES.length, 1.0);
+    private final ZipfSampler publishers = new ZipfSampler(PUBLISHERS.length, 0.9);
+
+    String personName(SplittableRandom random) {
+        return SURNAMES[surnames.sample(random) - 1]
+                + GIVEN_FIRST[random.nextInt(GIVEN_FIRST.length)]
+                + GIVEN_SECOND[random.nextInt(GIVEN_SECOND.length)];
+    }
+
+    String department(SplittableRandom random) {
+        return DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+    }
+
+    String contact(SplittableRandom random) {
+        return String.format("010-%04d-%04d", random.nextInt(10000), random.nextInt(10000));
+    }
+
+    String publisher(SplittableRandom random) {
+        return PUBLISHERS[publishers.sample(random) - 1];
+    }
+
+    String bookTitle(SplittableRandom random) {
+        String topic = TOPICS[random.nextInt(TOPICS.length)];
+        String noun = NOUNS[random.nextInt(NOUNS.length)];
+        String other = NOUNS[random.nextInt(NOUNS.length)];
+        String adjective = ADJECTIVES[random.nextInt(ADJECTIVES.length)];
+        return switch (random.nextInt(8)) {
+            case 0 -> adjective + " " + noun;
+            case 1 -> noun + "의 " + other;
+            case 2 -> topic + " 완벽 가이드";
+            case 3 -> "실전 " + topic;
+            case 4 -> "처음 만나는 " + topic;
+            case 5 -> adjective + " " + noun + "의 " + other;
+            case 6 -> topic + " " + noun + " 이야기";
+            default -> noun + "에서 " + other + "까지";
+        };
+    }
+}
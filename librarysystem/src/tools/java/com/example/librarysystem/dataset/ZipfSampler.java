@@ -0,0 +1,69 @@
+package com.example.librarysystem.dataset;
+
+import java.util.SplittableRandom;
+
+// 1..n 중 k를 k^-exponent에 비례하는 확률로 뽑음 (rejection-inversion, 표 없이 O(1))
+// W. Hörmann, G. Derflinger, "Rejection-inversion to generate variates from monotone discrete distributions"
+final class ZipfSampler {
+
+    private final int n;
+    private final double exponent;
+    private final double hIntegralX1;
+    private final double hIntegralN;
+    private final double s;
+
+    ZipfSampler(int n, double exponent) {
+        if (n < 1 || exponent <= 0) {
+            throw new IllegalArgumentException("n must be positive and exponent greater than 0");
+        }
+        this.n = n;
+        this.exponent = exponent;
+        this.hIntegralX1 = hIntegral(1.5) - 1;
+        this.hIntegralN = hIntegral(n + 0.5);
+        this.s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+    }
+
+    // 1부터 시작하는 순위
+    int sample(SplittableRandom random) {
+        while (true) {
+            double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+            double x = hIntegralInverse(u);
+            int k = (int) (x + 0.5);
+            if (k < 1) {
+                k = 1;
+            } else if (k > n) {
+                k = n;
+            }
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return helper2((1 - exponent) * logX) * logX;
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = x * (1 - exponent);
+        if (t < -1) {
+            t = -1;
+        }
+        return Math.exp(helper1(t) * x);
+    }
+
+    // log(1 + x) / x
+    private static double helper1(double x) {
+        return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+    }
+
+    // (exp(x) - 1) / x
+    private static double helper2(double x) {
+        return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x * (1.0 / 3) * (1 + 0.25 * x));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.librarysystem.journal;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 저널 시각 범위 스캔 도구
+// 사용법: ./gradlew journalScan -PjournalArgs="./data/journal 2024-05-01T00:00 2024-06-01T00:00"
+public class JournalScanTool {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: JournalScanTool <directory> [from] [to]  (ISO-8601 local date-time)");
+            System.exit(1);
+        }
+
+        Path directory = Paths.get(args[0]);
+        long from = args.length > 1 ? toEpochMilli(args[1]) : 0L;
+        long to = args.length > 2 ? toEpochMilli(args[2]) : Long.MAX_VALUE;
+        JournalEventCodec codec = new JournalEventCodec(JsonMapper.builder().findAndAddModules().build());
+
+        long[] count = {0};
+        CirculationJournal.scanCommitted(directory, from, to, record -> {
+            // payload를 디코딩해 보면서 손상 여부도 함께 확인
+            codec.decode(record);
+            System.out.printf("%d\t%s\t%s\t%s%n",
+                    record.sequence(),
+                    Instant.ofEpochMilli(record.timestamp()),
+                    JournalEventCodec.typeName(record.type()),
+                    new String(record.payload(), StandardCharsets.UTF_8));
+            count[0]++;
+        });
+        System.err.println(count[0] + " records");
+    }
+
+    private static long toEpochMilli(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
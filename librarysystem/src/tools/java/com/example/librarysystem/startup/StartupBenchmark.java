@@ -0,0 +1,111 @@
+package com.example.librarysystem.startup;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+
+// 기동 방식별로 애플리케이션을 띄워 첫 요청이 성공할 때까지 걸린 시간 측정
+//
+// 사용법: StartupBenchmark --jar=<boot jar> [--cds-jar=<압축 해제된 jar>] [--cds-archive=<jsa>]
+//                          [--java=<java 실행 파일>] [--runs=3] [--port=18080]
+// ./gradlew startupBenchmark 로 CDS 아카이브 생성 후 실행
+public final class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final long POLL_INTERVAL_MS = 20;
+
+    private record Mode(String name, List<String> command) {
+    }
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String java = options.getOrDefault("java", "java");
+        String jar = required(options, "jar");
+        int runs = Integer.parseInt(options.getOrDefault("runs", "3"));
+        int port = Integer.parseInt(options.getOrDefault("port", "18080"));
+        String portArg = "--server.port=" + port;
+
+        List<Mode> modes = new ArrayList<>();
+        modes.add(new Mode("default", List.of(java, "-jar", jar, portArg)));
+        modes.add(new Mode("faststart", List.of(java, "-jar", jar, "--spring.profiles.active=faststart", portArg)));
+        String cdsJar = options.get("cds-jar");
+        String cdsArchive = options.get("cds-archive");
+        if (cdsJar != null && cdsArchive != null && Files.exists(Path.of(cdsArchive))) {
+            modes.add(new Mode("faststart+cds", List.of(java, "-XX:SharedArchiveFile=" + cdsArchive, "-Xshare:auto",
+                    "-jar", cdsJar, "--spring.profiles.active=faststart", portArg)));
+        }
+
+        URI probe = URI.create("http://localhost:" + port + "/api/public/books/search?size=1");
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+        System.out.printf("%-16s %8s %8s %8s  (ms to first successful request, %d runs)%n", "mode", "min", "median", "max", runs);
+        for (Mode mode : modes) {
+            long[] samples = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                samples[i] = measure(mode, client, probe);
+            }
+            Arrays.sort(samples);
+            System.out.printf("%-16s %8d %8d %8d%n", mode.name(), samples[0], samples[runs / 2], samples[runs - 1]);
+        }
+    }
+
+    private static long measure(Mode mode, HttpClient client, URI probe) throws Exception {
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(mode.command())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(probe).timeout(Duration.ofSeconds(5)).GET().build();
+            while (System.nanoTime() - startedAt < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode.name() + " exited with code " + process.exitValue());
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+                    }
+                } catch (ConnectException e) {
+                    // 아직 포트가 열리지 않음
+                } catch (IOException e) {
+                    // 기동 중 연결 끊김
+                }
+                Thread.sleep(POLL_INTERVAL_MS);
+            }
+            throw new IllegalStateException(mode.name() + " did not serve a request within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing --" + name + "=...");
+        }
+        return value;
+    }
+}